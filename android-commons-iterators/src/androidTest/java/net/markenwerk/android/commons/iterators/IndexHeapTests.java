@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexHeapTests {
+
+	private static IndexHeap heap(final int[] values, boolean reversed) {
+		return new IndexHeap(values.length, reversed) {
+
+			@Override
+			protected int compare(int left, int right) {
+				return values[left] < values[right] ? -1 : (values[left] == values[right] ? 0 : 1);
+			}
+
+		};
+	}
+
+	@Test
+	public void drain_full() {
+
+		IndexHeap heap = heap(new int[]{30, 10, 20}, true);
+		heap.fill();
+
+		int[] sorted = heap.drain();
+
+		Assert.assertArrayEquals(new int[]{1, 2, 0}, sorted);
+		Assert.assertEquals(0, heap.size());
+
+	}
+
+	@Test
+	public void drain_partial() {
+
+		IndexHeap heap = heap(new int[]{30, 10, 20, 40, 0}, true);
+		heap.add(0);
+		heap.add(3);
+		heap.add(1);
+
+		int[] sorted = heap.drain();
+
+		Assert.assertArrayEquals(new int[]{1, 0, 3}, sorted);
+
+	}
+
+	@Test
+	public void drain_partialRegular() {
+
+		IndexHeap heap = heap(new int[]{30, 10, 20, 40, 0}, false);
+		heap.add(2);
+		heap.add(3);
+		heap.add(1);
+		heap.add(0);
+
+		int[] sorted = heap.drain();
+
+		Assert.assertArrayEquals(new int[]{3, 0, 2, 1}, sorted);
+
+	}
+
+	@Test
+	public void poll_tieBreaksByIndex() {
+
+		IndexHeap heap = heap(new int[]{5, 5, 5}, false);
+		heap.fill();
+
+		Assert.assertEquals(0, heap.poll());
+		Assert.assertEquals(1, heap.poll());
+		Assert.assertEquals(2, heap.poll());
+
+	}
+
+}
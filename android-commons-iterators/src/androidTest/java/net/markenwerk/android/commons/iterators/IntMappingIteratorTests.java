@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseIntArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+public class IntMappingIteratorTests {
+
+	private static final IntMapper DOUBLE = new IntMapper() {
+
+		@Override
+		public int map(int value) {
+			return value * 2;
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new IntMappingIterator(null, DOUBLE);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullMapper() {
+
+		new IntMappingIterator(new SparseIntegerArrayValueList(new SparseIntArray()).intIterator(), null);
+
+	}
+
+	@Test
+	public void iterate_chained() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(1, 1);
+		array.put(2, 2);
+
+		IntIterator iterator = new IntMappingIterator(new IntMappingIterator(new SparseIntegerArrayValueList(array).intIterator(), DOUBLE), DOUBLE);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextInt());
+		Assert.assertEquals(8, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_empty() {
+
+		IntIterator iterator = new IntMappingIterator(new SparseIntegerArrayValueList(new SparseIntArray()).intIterator(), DOUBLE);
+
+		iterator.nextInt();
+
+	}
+
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseIntArray;
+
+import net.markenwerk.commons.datastructures.Entry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+public class IterationMetricsTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullClock() {
+
+		new IterationMetrics(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void instrument_nullTag() {
+
+		new IterationMetrics().instrument(null, new SparseIntegerArrayIterator(new SparseIntArray()));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void instrument_nullIterator() {
+
+		new IterationMetrics().instrument("tag", null);
+
+	}
+
+	@Test
+	public void instrument_completed() {
+
+		TestClock clock = new TestClock();
+		IterationMetrics metrics = new IterationMetrics(clock);
+
+		Iterator<Entry<Integer, Integer>> iterator = metrics.instrument("tag", new SparseIntegerArrayIterator(createArray()));
+		clock.time = 10;
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+		clock.time = 20;
+		iterator.hasNext();
+		IterationMetrics.close(iterator);
+
+		IterationStatistics statistics = metrics.snapshot("tag");
+		Assert.assertEquals("tag", statistics.getTag());
+		Assert.assertEquals(1, statistics.getStartedCount());
+		Assert.assertEquals(1, statistics.getCompletedCount());
+		Assert.assertEquals(0, statistics.getAbandonedCount());
+		Assert.assertEquals(0, statistics.getUnfinishedCount());
+		Assert.assertEquals(3, statistics.getYieldedCount());
+		Assert.assertEquals(10, statistics.getTotalTime());
+		Assert.assertEquals(10, statistics.getMaximumTime());
+
+	}
+
+	@Test
+	public void instrument_abandoned() {
+
+		TestClock clock = new TestClock();
+		IterationMetrics metrics = new IterationMetrics(clock);
+
+		Iterator<Entry<Integer, Integer>> first = metrics.instrument("tag", new SparseIntegerArrayIterator(createArray()));
+		first.next();
+		clock.time = 30;
+		IterationMetrics.close(first);
+
+		Iterator<Entry<Integer, Integer>> second = metrics.instrument("tag", new SparseIntegerArrayIterator(createArray()));
+		clock.time = 40;
+		IterationMetrics.close(second);
+
+		metrics.instrument("tag", new SparseIntegerArrayIterator(createArray()));
+
+		IterationStatistics statistics = metrics.snapshot("tag");
+		Assert.assertEquals(3, statistics.getStartedCount());
+		Assert.assertEquals(0, statistics.getCompletedCount());
+		Assert.assertEquals(2, statistics.getAbandonedCount());
+		Assert.assertEquals(1, statistics.getUnfinishedCount());
+		Assert.assertEquals(1, statistics.getYieldedCount());
+		Assert.assertEquals(40, statistics.getTotalTime());
+		Assert.assertEquals(30, statistics.getMaximumTime());
+		Assert.assertEquals(20, statistics.getAverageTime());
+
+	}
+
+	@Test
+	public void instrument_unfinishedYielded() {
+
+		IterationMetrics metrics = new IterationMetrics(new TestClock());
+
+		Iterator<Entry<Integer, Integer>> iterator = metrics.instrument("tag", new SparseIntegerArrayIterator(createArray()));
+		iterator.next();
+		iterator.next();
+
+		Assert.assertEquals(0, metrics.snapshot("tag").getYieldedCount());
+
+		IterationMetrics.close(iterator);
+
+		Assert.assertEquals(2, metrics.snapshot("tag").getYieldedCount());
+
+	}
+
+	@Test
+	public void instrument_disabled() {
+
+		IterationMetrics metrics = new IterationMetrics();
+		metrics.setEnabled(false);
+
+		Iterator<Entry<Integer, Integer>> iterator = new SparseIntegerArrayIterator(createArray());
+
+		Assert.assertFalse(metrics.isEnabled());
+		Assert.assertSame(iterator, metrics.instrument("tag", iterator));
+		Assert.assertNull(metrics.snapshot("tag"));
+
+	}
+
+	@Test
+	public void snapshot() {
+
+		IterationMetrics metrics = new IterationMetrics();
+		metrics.instrument("first", new SparseIntegerArrayIterator(createArray()));
+		metrics.instrument("second", new SparseIntegerArrayIterator(createArray()));
+		metrics.instrument("second", new SparseIntegerArrayIterator(createArray()));
+
+		List<IterationStatistics> statistics = metrics.snapshot();
+		Assert.assertEquals(2, statistics.size());
+		Assert.assertEquals(2, metrics.snapshot("second").getStartedCount());
+
+		metrics.clear();
+		Assert.assertTrue(metrics.snapshot().isEmpty());
+
+	}
+
+	@Test
+	public void instrument_concurrent() throws InterruptedException {
+
+		final IterationMetrics metrics = new IterationMetrics();
+		final SparseIntArray array = createArray();
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < 1000; j++) {
+						Iterator<Entry<Integer, Integer>> iterator = metrics.instrument("tag", new SparseIntegerArrayIterator(array));
+						while (iterator.hasNext()) {
+							iterator.next();
+						}
+					}
+				}
+
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		IterationStatistics statistics = metrics.snapshot("tag");
+		Assert.assertEquals(4000, statistics.getStartedCount());
+		Assert.assertEquals(4000, statistics.getCompletedCount());
+		Assert.assertEquals(12000, statistics.getYieldedCount());
+
+	}
+
+	private static SparseIntArray createArray() {
+		SparseIntArray array = new SparseIntArray();
+		array.put(5, 5);
+		array.put(23, 23);
+		array.put(42, 42);
+		return array;
+	}
+
+	private static final class TestClock implements IterationClock {
+
+		private long time;
+
+		@Override
+		public long nanoTime() {
+			return time;
+		}
+
+	}
+
+}
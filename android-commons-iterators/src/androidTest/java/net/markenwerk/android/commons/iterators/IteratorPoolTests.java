@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+import android.util.Pair;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IteratorPoolTests {
+
+	@Test
+	public void get() {
+
+		Assert.assertSame(IteratorPool.get(), IteratorPool.get());
+
+	}
+
+	@Test
+	public void get_otherThread() throws InterruptedException {
+
+		final IteratorPool[] pools = new IteratorPool[1];
+		Thread thread = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				pools[0] = IteratorPool.get();
+			}
+
+		});
+		thread.start();
+		thread.join();
+
+		Assert.assertNotSame(IteratorPool.get(), pools[0]);
+
+	}
+
+	@Test
+	public void obtain_sparseArray() {
+
+		IteratorPool pool = IteratorPool.get();
+		SparseArray<String> array = new SparseArray<>();
+		array.put(23, "23");
+
+		SparseArrayIterator<String> first = pool.obtain(array);
+		Assert.assertEquals("23", first.next().getValue());
+		pool.recycle(first);
+
+		SparseArrayIterator<String> second = pool.obtain(array);
+		Assert.assertSame(first, second);
+		Assert.assertEquals("23", second.next().getValue());
+		Assert.assertNotSame(second, pool.obtain(array));
+
+	}
+
+	@Test
+	public void obtain_sparseIntegerArray() {
+
+		IteratorPool pool = IteratorPool.get();
+		SparseIntArray array = new SparseIntArray();
+		array.put(23, 23);
+
+		SparseIntegerArrayIterator first = pool.obtain(array);
+		first.next();
+		pool.recycle(first);
+
+		SparseIntegerArrayIterator second = pool.obtain(array);
+		Assert.assertSame(first, second);
+		Assert.assertTrue(second.hasNext());
+
+	}
+
+	@Test
+	public void obtain_sparseLongArray() {
+
+		IteratorPool pool = IteratorPool.get();
+		SparseLongArray array = new SparseLongArray();
+		array.put(23, 23L);
+
+		SparseLongArrayIterator first = pool.obtain(array);
+		first.next();
+		pool.recycle(first);
+
+		SparseLongArrayIterator second = pool.obtain(array);
+		Assert.assertSame(first, second);
+		Assert.assertTrue(second.hasNext());
+
+	}
+
+	@Test
+	public void obtain_sparseBooleanArray() {
+
+		IteratorPool pool = IteratorPool.get();
+		SparseBooleanArray array = new SparseBooleanArray();
+		array.put(23, true);
+
+		SparseBooleanArrayIterator first = pool.obtain(array);
+		first.next();
+		pool.recycle(first);
+
+		SparseBooleanArrayIterator second = pool.obtain(array);
+		Assert.assertSame(first, second);
+		Assert.assertTrue(second.hasNext());
+
+	}
+
+	@Test
+	public void obtain_longSparseArray() {
+
+		IteratorPool pool = IteratorPool.get();
+		LongSparseArray<String> array = new LongSparseArray<>();
+		array.put(23L, "23");
+
+		LongSparseArrayIterator<String> first = pool.obtain(array);
+		first.next();
+		pool.recycle(first);
+
+		LongSparseArrayIterator<String> second = pool.obtain(array);
+		Assert.assertSame(first, second);
+		Assert.assertTrue(second.hasNext());
+
+	}
+
+	@Test
+	public void obtain_pair() {
+
+		IteratorPool pool = IteratorPool.get();
+		Pair<String, String> pair = new Pair<>("first", "second");
+
+		PairIterator<String> first = pool.obtain(pair);
+		first.next();
+		first.next();
+		pool.recycle(first);
+
+		PairIterator<String> second = pool.obtain(pair);
+		Assert.assertSame(first, second);
+		Assert.assertEquals("first", second.next());
+
+	}
+
+	@Test
+	public void recycle_twice() {
+
+		IteratorPool pool = IteratorPool.get();
+		SparseIntArray array = new SparseIntArray();
+
+		SparseIntegerArrayIterator iterator = pool.obtain(array);
+		pool.recycle(iterator);
+		pool.recycle(iterator);
+
+		Assert.assertSame(iterator, pool.obtain(array));
+		Assert.assertNotSame(iterator, pool.obtain(array));
+
+	}
+
+	@Test
+	public void recycle_full() {
+
+		IteratorPool pool = IteratorPool.get();
+		SparseIntArray array = new SparseIntArray();
+
+		SparseIntegerArrayIterator[] iterators = new SparseIntegerArrayIterator[IteratorPool.CAPACITY + 1];
+		for (int i = 0; i < iterators.length; i++) {
+			iterators[i] = pool.obtain(array);
+		}
+		for (SparseIntegerArrayIterator iterator : iterators) {
+			pool.recycle(iterator);
+		}
+		for (int i = 0; i < IteratorPool.CAPACITY; i++) {
+			Assert.assertSame(iterators[IteratorPool.CAPACITY - 1 - i], pool.obtain(array));
+		}
+		Assert.assertNotSame(iterators[IteratorPool.CAPACITY], pool.obtain(array));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void obtain_nullArray() {
+
+		IteratorPool.get().obtain((SparseIntArray) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void recycle_nullIterator() {
+
+		IteratorPool.get().recycle((SparseIntegerArrayIterator) null);
+
+	}
+
+}
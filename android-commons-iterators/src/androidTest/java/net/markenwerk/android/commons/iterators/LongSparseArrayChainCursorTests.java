@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class LongSparseArrayChainCursorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullShards() {
+
+		new LongSparseArrayChainCursor<>(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullShard() {
+
+		new LongSparseArrayChainCursor<>(Arrays.asList(new LongSparseArray<>(), null));
+
+	}
+
+	@Test
+	public void move() {
+
+		LongSparseArrayChainCursor<String> cursor = new LongSparseArrayChainCursor<>(createShards());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(0, cursor.getShard());
+		Assert.assertEquals(0, cursor.getIndex());
+		Assert.assertEquals(1L, cursor.getKey());
+		Assert.assertEquals("1", cursor.getValue());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(2L, cursor.getKey());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(2, cursor.getShard());
+		Assert.assertEquals(0, cursor.getIndex());
+		Assert.assertEquals(10L, cursor.getKey());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(3, cursor.getShard());
+		Assert.assertEquals(20L, cursor.getKey());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(30L, cursor.getKey());
+
+		Assert.assertFalse(cursor.moveToNext());
+		Assert.assertFalse(cursor.moveToNext());
+
+	}
+
+	@Test
+	public void move_noShards() {
+
+		List<LongSparseArray<String>> shards = Arrays.asList();
+
+		Assert.assertFalse(new LongSparseArrayChainCursor<>(shards).moveToNext());
+
+	}
+
+	@Test
+	public void seek() {
+
+		LongSparseArrayChainCursor<String> cursor = new LongSparseArrayChainCursor<>(createShards());
+
+		Assert.assertTrue(cursor.seek(2L));
+		Assert.assertEquals(2L, cursor.getKey());
+
+		Assert.assertTrue(cursor.seek(3L));
+		Assert.assertEquals(2, cursor.getShard());
+		Assert.assertEquals(10L, cursor.getKey());
+
+		Assert.assertTrue(cursor.seek(21L));
+		Assert.assertEquals(30L, cursor.getKey());
+		Assert.assertFalse(cursor.moveToNext());
+
+		Assert.assertTrue(cursor.seek(0L));
+		Assert.assertEquals(1L, cursor.getKey());
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(2L, cursor.getKey());
+
+		Assert.assertFalse(cursor.seek(31L));
+		Assert.assertFalse(cursor.moveToNext());
+
+	}
+
+	@Test
+	public void seek_many() {
+
+		List<LongSparseArray<String>> shards = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			LongSparseArray<String> shard = new LongSparseArray<>();
+			if (0 != i % 3) {
+				for (int j = 0; j < 10; j++) {
+					shard.put(i * 100 + j * 2, Integer.toString(i * 100 + j * 2));
+				}
+			}
+			shards.add(shard);
+		}
+
+		LongSparseArrayChainCursor<String> cursor = new LongSparseArrayChainCursor<>(shards);
+		for (int key = 0; key < 5000; key++) {
+			int expected = key;
+			while (expected < 5000 && (0 == (expected / 100) % 3 || expected % 100 >= 20 || 0 != expected % 2)) {
+				expected++;
+			}
+			if (expected < 5000) {
+				Assert.assertTrue(cursor.seek(key));
+				Assert.assertEquals(expected, cursor.getKey());
+			} else {
+				Assert.assertFalse(cursor.seek(key));
+			}
+		}
+
+	}
+
+	@Test
+	public void trySplit() {
+
+		LongSparseArrayChainCursor<String> cursor = new LongSparseArrayChainCursor<>(createShards());
+		cursor.moveToNext();
+
+		LongSparseArrayChainCursor<String> prefix = cursor.trySplit();
+		Assert.assertNotNull(prefix);
+		Assert.assertEquals(1L, prefix.getKey());
+		Assert.assertTrue(prefix.moveToNext());
+		Assert.assertEquals(2L, prefix.getKey());
+		Assert.assertFalse(prefix.moveToNext());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(10L, cursor.getKey());
+
+		LongSparseArrayChainCursor<String> secondPrefix = cursor.trySplit();
+		Assert.assertNotNull(secondPrefix);
+		Assert.assertEquals(10L, secondPrefix.getKey());
+		Assert.assertFalse(secondPrefix.moveToNext());
+		Assert.assertFalse(secondPrefix.seek(20L));
+
+		Assert.assertNull(cursor.trySplit());
+		Assert.assertTrue(cursor.seek(0L));
+		Assert.assertEquals(20L, cursor.getKey());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getKey_beforeFirst() {
+
+		new LongSparseArrayChainCursor<>(createShards()).getKey();
+
+	}
+
+	private static List<LongSparseArray<String>> createShards() {
+		LongSparseArray<String> first = new LongSparseArray<>();
+		first.put(1L, "1");
+		first.put(2L, "2");
+		LongSparseArray<String> second = new LongSparseArray<>();
+		LongSparseArray<String> third = new LongSparseArray<>();
+		third.put(10L, "10");
+		LongSparseArray<String> fourth = new LongSparseArray<>();
+		fourth.put(20L, "20");
+		fourth.put(30L, "30");
+		return Arrays.asList(first, second, third, fourth);
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class LongSparseArrayFlatMappingCursorTests {
+
+	private static final ValueMapper<String, Iterable<String>> SPLIT = new ValueMapper<String, Iterable<String>>() {
+
+		@Override
+		public Iterable<String> map(String value) {
+			return null == value ? null : value.isEmpty() ? Collections.<String>emptyList() : Arrays.asList(value.split(","));
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullCursor() {
+
+		new LongSparseArrayFlatMappingCursor<>(null, SPLIT);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullMapper() {
+
+		new LongSparseArrayFlatMappingCursor<String, String>(new LongSparseArrayFullCursor<>(new LongSparseArray<String>()), null);
+
+	}
+
+	@Test
+	public void move() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		array.put(1L, "a,b");
+		array.put(2L, "");
+		array.put(3L, null);
+		array.put(4L, "c");
+
+		LongSparseArrayCursor<String> cursor = new LongSparseArrayFlatMappingCursor<>(new LongSparseArrayFullCursor<>(array), SPLIT);
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(0, cursor.getIndex());
+		Assert.assertEquals(1, cursor.getKey());
+		Assert.assertEquals("a", cursor.getValue());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(0, cursor.getIndex());
+		Assert.assertEquals(1, cursor.getKey());
+		Assert.assertEquals("b", cursor.getValue());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(3, cursor.getIndex());
+		Assert.assertEquals(4, cursor.getKey());
+		Assert.assertEquals("c", cursor.getValue());
+
+		Assert.assertFalse(cursor.moveToNext());
+		Assert.assertFalse(cursor.moveToNext());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getValue_afterEnd() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		array.put(1L, "a");
+
+		LongSparseArrayCursor<String> cursor = new LongSparseArrayFlatMappingCursor<>(new LongSparseArrayFullCursor<>(array), SPLIT);
+
+		cursor.moveToNext();
+		cursor.moveToNext();
+		cursor.getValue();
+
+	}
+
+}
@@ -87,4 +87,33 @@ public class LongSparseArrayIteratorTests {
 
 	}
 
+	@Test
+	public void reset() {
+
+		LongSparseArray<Object> array = new LongSparseArray<>();
+		array.put(23L, new Object());
+
+		LongSparseArrayIterator<Object> iterator = new LongSparseArrayIterator<>(array);
+		iterator.next();
+		Assert.assertFalse(iterator.hasNext());
+
+		LongSparseArray<Object> otherArray = new LongSparseArray<>();
+		otherArray.put(42L, new Object());
+
+		iterator.reset(otherArray);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(42L), iterator.next().getKey());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void reset_nullArray() {
+
+		LongSparseArrayIterator<Object> iterator = new LongSparseArrayIterator<>(new LongSparseArray<>());
+
+		iterator.reset(null);
+
+	}
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongSparseArrayKeyMappingCursorTests {
+
+	private static final LongMapper NEGATE = new LongMapper() {
+
+		@Override
+		public long map(long value) {
+			return -value;
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullCursor() {
+
+		new LongSparseArrayKeyMappingCursor<>(null, NEGATE);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullMapper() {
+
+		new LongSparseArrayKeyMappingCursor<>(new LongSparseArrayFullCursor<>(new LongSparseArray<String>()), null);
+
+	}
+
+	@Test
+	public void move() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		for (int i = 0; i < 5; i++) {
+			array.put(i * 10L, "value" + i);
+		}
+
+		LongSparseArrayCursor<String> cursor = new LongSparseArrayKeyMappingCursor<>(new LongSparseArrayStrideCursor<>(array, 3), NEGATE);
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(0, cursor.getIndex());
+		Assert.assertEquals(0, cursor.getKey());
+		Assert.assertEquals("value0", cursor.getValue());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(3, cursor.getIndex());
+		Assert.assertEquals(-30, cursor.getKey());
+		Assert.assertEquals("value3", cursor.getValue());
+
+		Assert.assertFalse(cursor.moveToNext());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getKey_afterEnd() {
+
+		LongSparseArrayCursor<String> cursor = new LongSparseArrayKeyMappingCursor<>(new LongSparseArrayFullCursor<>(new LongSparseArray<String>()), NEGATE);
+
+		cursor.moveToNext();
+		cursor.getKey();
+
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class LongSparseArrayKeySetTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new LongSparseArrayKeySet(null);
+
+	}
+
+	@Test
+	public void view() {
+
+		LongSparseArray<Object> array = new LongSparseArray<>();
+		array.put(42L, new Object());
+		array.put(-5L, new Object());
+
+		LongSet keys = new LongSparseArrayKeySet(array);
+
+		Assert.assertEquals(2, keys.size());
+		Assert.assertEquals(-5L, keys.getLong(0));
+		Assert.assertEquals(42L, keys.getLong(1));
+		Assert.assertTrue(keys.contains(42L));
+		Assert.assertTrue(keys.contains(Long.valueOf(-5L)));
+		Assert.assertFalse(keys.contains(23L));
+		Assert.assertFalse(keys.contains("42"));
+		Assert.assertEquals(1, keys.indexOf(42L));
+		Assert.assertEquals(-1, keys.indexOf(23L));
+		Assert.assertArrayEquals(new long[]{-5L, 42L}, keys.toLongArray());
+		Assert.assertEquals(new HashSet<>(Arrays.asList(-5L, 42L)), keys);
+
+	}
+
+	@Test
+	public void view_live() {
+
+		LongSparseArray<Object> array = new LongSparseArray<>();
+
+		LongSet keys = new LongSparseArrayKeySet(array);
+		Assert.assertTrue(keys.isEmpty());
+
+		array.put(23L, new Object());
+		Assert.assertEquals(1, keys.size());
+		Assert.assertTrue(keys.contains(23L));
+
+	}
+
+	@Test
+	public void longIterator() {
+
+		LongSparseArray<Object> array = new LongSparseArray<>();
+		array.put(42L, new Object());
+		array.put(23L, new Object());
+
+		LongIterator iterator = new LongSparseArrayKeySet(array).longIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(23L, iterator.nextLong());
+		Assert.assertEquals(42L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator() {
+
+		LongSparseArray<Object> array = new LongSparseArray<>();
+		array.put(42L, new Object());
+
+		Iterator<Long> iterator = new LongSparseArrayKeySet(array).iterator();
+
+		Assert.assertEquals(Long.valueOf(42L), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void longIterator_noNext() {
+
+		new LongSparseArrayKeySet(new LongSparseArray<>()).longIterator().nextLong();
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getLong_outOfRange() {
+
+		new LongSparseArrayKeySet(new LongSparseArray<>()).getLong(0);
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void add() {
+
+		new LongSparseArrayKeySet(new LongSparseArray<>()).add(Long.valueOf(23L));
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		LongSparseArray<Object> array = new LongSparseArray<>();
+		array.put(23L, new Object());
+
+		new LongSparseArrayKeySet(array).remove(Long.valueOf(23L));
+
+	}
+
+}
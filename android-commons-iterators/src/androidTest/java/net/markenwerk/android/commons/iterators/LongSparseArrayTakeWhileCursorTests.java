@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongSparseArrayTakeWhileCursorTests {
+
+	private static final LongPredicate BELOW_THIRTY = new LongPredicate() {
+
+		@Override
+		public boolean test(long value) {
+			return value < 30;
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullCursor() {
+
+		new LongSparseArrayTakeWhileCursor<>(null, BELOW_THIRTY);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new LongSparseArrayTakeWhileCursor<>(new LongSparseArrayFullCursor<>(new LongSparseArray<String>()), null);
+
+	}
+
+	@Test
+	public void move() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		for (int i = 0; i < 5; i++) {
+			array.put(i * 10L, "value" + i);
+		}
+
+		LongSparseArrayCursor<String> cursor = new LongSparseArrayTakeWhileCursor<>(new LongSparseArrayFullCursor<>(array), BELOW_THIRTY);
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(0, cursor.getKey());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(2, cursor.getIndex());
+		Assert.assertEquals(20, cursor.getKey());
+		Assert.assertEquals("value2", cursor.getValue());
+
+		Assert.assertFalse(cursor.moveToNext());
+		Assert.assertFalse(cursor.moveToNext());
+
+	}
+
+	@Test
+	public void move_stopsSource() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		for (int i = 0; i < 5; i++) {
+			array.put(i * 10L, "value" + i);
+		}
+		LongSparseArrayCursor<String> source = new LongSparseArrayFullCursor<>(array);
+
+		LongSparseArrayCursor<String> cursor = new LongSparseArrayTakeWhileCursor<>(source, BELOW_THIRTY);
+
+		while (cursor.moveToNext()) {
+		}
+		cursor.moveToNext();
+
+		Assert.assertEquals(3, source.getIndex());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getKey_afterEnd() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		for (int i = 0; i < 5; i++) {
+			array.put(i * 10L, "value" + i);
+		}
+
+		LongSparseArrayCursor<String> cursor = new LongSparseArrayTakeWhileCursor<>(new LongSparseArrayFullCursor<>(array), BELOW_THIRTY);
+
+		while (cursor.moveToNext()) {
+		}
+		cursor.getKey();
+
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class LongValueMappingIteratorTests {
+
+	private static final LongValueMapper<String> NAME = new LongValueMapper<String>() {
+
+		@Override
+		public String map(long value) {
+			return "id" + value;
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new LongValueMappingIterator<>(null, NAME);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullMapper() {
+
+		new LongValueMappingIterator<String>(new LongSparseArrayKeySet(new LongSparseArray<>()).longIterator(), null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		array.put(1L, "a");
+		array.put(2L, "b");
+
+		Iterator<String> iterator = new LongValueMappingIterator<>(new LongSparseArrayKeySet(array).longIterator(), NAME);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals("id1", iterator.next());
+		Assert.assertEquals("id2", iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_empty() {
+
+		Iterator<String> iterator = new LongValueMappingIterator<>(new LongSparseArrayKeySet(new LongSparseArray<>()).longIterator(), NAME);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<String> iterator = new LongValueMappingIterator<>(new LongSparseArrayKeySet(new LongSparseArray<>()).longIterator(), NAME);
+
+		iterator.remove();
+
+	}
+
+}
@@ -70,4 +70,30 @@ public class PairIteratorTests {
 
 	}
 
+	@Test
+	public void reset() {
+
+		Object first = new Object();
+		Object second = new Object();
+
+		PairIterator<Object> iterator = new PairIterator<>(new Pair<>(new Object(), new Object()));
+		iterator.next();
+		iterator.next();
+
+		iterator.reset(new Pair<>(first, second));
+		Assert.assertSame(first, iterator.next());
+		Assert.assertSame(second, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void reset_nullPair() {
+
+		PairIterator<Object> iterator = new PairIterator<>(new Pair<>(new Object(), new Object()));
+
+		iterator.reset(null);
+
+	}
+
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.Pair;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class PairSecondsIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new PairSecondsIterator<>((Iterable<Pair<Object, Object>>) null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		List<Pair<String, Integer>> pairs = Arrays.asList(new Pair<>("a", 1), null, new Pair<>("b", 2));
+
+		Iterator<Integer> iterator = new PairSecondsIterator<>(pairs);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertNull(iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_batch() {
+
+		List<Pair<String, Integer>> pairs = Arrays.asList(new Pair<>("a", 1), new Pair<>("b", 2));
+		Integer[] buffer = new Integer[3];
+
+		PairSecondsIterator<Integer> iterator = new PairSecondsIterator<>(pairs);
+
+		Assert.assertEquals(2, iterator.next(buffer, 1, 2));
+		Assert.assertArrayEquals(new Integer[]{null, Integer.valueOf(1), Integer.valueOf(2)}, buffer);
+		Assert.assertEquals(0, iterator.next(buffer, 0, 3));
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		List<Pair<String, Integer>> pairs = Collections.emptyList();
+
+		Iterator<Integer> iterator = new PairSecondsIterator<>(pairs);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		List<Pair<String, Integer>> pairs = Collections.singletonList(new Pair<>("a", 1));
+
+		Iterator<Integer> iterator = new PairSecondsIterator<>(pairs);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
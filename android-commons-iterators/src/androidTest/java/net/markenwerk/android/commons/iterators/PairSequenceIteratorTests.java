@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.Pair;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class PairSequenceIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new PairSequenceIterator<>((Iterable<Pair<Object, Object>>) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new PairSequenceIterator<>((Pair<Object, Object>[]) null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		List<Pair<String, String>> pairs = Arrays.asList(new Pair<>("a", "b"), null, new Pair<>("c", "d"));
+
+		Iterator<String> iterator = new PairSequenceIterator<>(pairs);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals("a", iterator.next());
+		Assert.assertEquals("b", iterator.next());
+		Assert.assertNull(iterator.next());
+		Assert.assertNull(iterator.next());
+		Assert.assertEquals("c", iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals("d", iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterate_array() {
+
+		Pair<String, String>[] pairs = new Pair[]{new Pair<>("a", "b"), new Pair<>("c", "d")};
+
+		Iterator<String> iterator = new PairSequenceIterator<>(pairs);
+
+		Assert.assertEquals("a", iterator.next());
+		Assert.assertEquals("b", iterator.next());
+		Assert.assertEquals("c", iterator.next());
+		Assert.assertEquals("d", iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_batch() {
+
+		List<Pair<String, String>> pairs = Arrays.asList(new Pair<>("a", "b"), new Pair<>("c", "d"));
+		String[] buffer = new String[4];
+
+		PairSequenceIterator<String> iterator = new PairSequenceIterator<>(pairs);
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.next(buffer, 1, 2));
+		Assert.assertArrayEquals(new String[]{null, "b", "c", null}, buffer);
+		Assert.assertEquals(1, iterator.next(buffer, 0, 4));
+		Assert.assertEquals("d", buffer[0]);
+		Assert.assertEquals(0, iterator.next(buffer, 0, 4));
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void iterate_batchOutOfBounds() {
+
+		List<Pair<String, String>> pairs = Collections.emptyList();
+
+		new PairSequenceIterator<>(pairs).next(new String[2], 1, 2);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		List<Pair<String, String>> pairs = Collections.singletonList(new Pair<>("a", "b"));
+
+		Iterator<String> iterator = new PairSequenceIterator<>(pairs);
+
+		iterator.next();
+		iterator.next();
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		List<Pair<String, String>> pairs = Collections.singletonList(new Pair<>("a", "b"));
+
+		Iterator<String> iterator = new PairSequenceIterator<>(pairs);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class SparseArrayBucketIteratorTests {
+
+	private static final long MINUTE = 60000;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new SparseArrayBucketIterator((SparseArray<?>) null, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_zeroWidth() {
+
+		new SparseArrayBucketIterator(new SparseIntArray(), 0);
+
+	}
+
+	@Test
+	public void iterate_empty() {
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(new LongSparseArray<>(), MINUTE);
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void next_empty() {
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(new LongSparseArray<>(), MINUTE);
+
+		iterator.next();
+
+	}
+
+	@Test
+	public void iterate_epochMillis() {
+
+		long start = 1476000000000L;
+		LongSparseArray<String> array = new LongSparseArray<>();
+		array.put(start, "a");
+		array.put(start + 1000, "b");
+		array.put(start + MINUTE - 1, "c");
+		array.put(start + 3 * MINUTE, "d");
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, MINUTE);
+
+		SparseArrayBucket bucket = iterator.next();
+		Assert.assertEquals(start, bucket.getLowerBound());
+		Assert.assertEquals(start + MINUTE - 1, bucket.getUpperBound());
+		Assert.assertEquals(0, bucket.getStartIndex());
+		Assert.assertEquals(3, bucket.getEndIndex());
+		Assert.assertEquals(3, bucket.getCount());
+		Assert.assertFalse(bucket.hasAggregate());
+
+		bucket = iterator.next();
+		Assert.assertEquals(start + 3 * MINUTE, bucket.getLowerBound());
+		Assert.assertEquals(3, bucket.getStartIndex());
+		Assert.assertEquals(4, bucket.getEndIndex());
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_origin() {
+
+		SparseArray<String> array = new SparseArray<>();
+		array.put(4, "a");
+		array.put(5, "b");
+		array.put(14, "c");
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, 5, 10);
+
+		SparseArrayBucket bucket = iterator.next();
+		Assert.assertEquals(-5, bucket.getLowerBound());
+		Assert.assertEquals(4, bucket.getUpperBound());
+		Assert.assertEquals(1, bucket.getCount());
+
+		bucket = iterator.next();
+		Assert.assertEquals(5, bucket.getLowerBound());
+		Assert.assertEquals(14, bucket.getUpperBound());
+		Assert.assertEquals(2, bucket.getCount());
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_negativeKeys() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(-11, 1);
+		array.put(-10, 2);
+		array.put(-1, 3);
+		array.put(0, 4);
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, 10);
+
+		Assert.assertEquals(-20, iterator.next().getLowerBound());
+		Assert.assertEquals(-10, iterator.next().getLowerBound());
+		Assert.assertEquals(0, iterator.next().getLowerBound());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_integerAggregate() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(1, 5);
+		array.put(2, -3);
+		array.put(3, 7);
+		array.put(10, 1);
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, 10);
+
+		SparseArrayBucket bucket = iterator.next();
+		Assert.assertTrue(bucket.hasAggregate());
+		Assert.assertEquals(3, bucket.getCount());
+		Assert.assertEquals(9, bucket.getSum());
+		Assert.assertEquals(-3, bucket.getMinimum());
+		Assert.assertEquals(7, bucket.getMaximum());
+		Assert.assertEquals(3.0, bucket.getAverage(), 0.0);
+
+		bucket = iterator.next();
+		Assert.assertEquals(1, bucket.getSum());
+		Assert.assertEquals(1, bucket.getMinimum());
+		Assert.assertEquals(1, bucket.getMaximum());
+
+	}
+
+	@Test
+	public void iterate_longAggregate() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(1, Integer.MAX_VALUE);
+		array.put(2, Integer.MAX_VALUE);
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, 10);
+
+		Assert.assertEquals(2L * Integer.MAX_VALUE, iterator.next().getSum());
+
+	}
+
+	@Test
+	public void iterate_booleanAggregate() {
+
+		SparseBooleanArray array = new SparseBooleanArray();
+		array.put(1, true);
+		array.put(2, false);
+		array.put(3, true);
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, 10);
+
+		SparseArrayBucket bucket = iterator.next();
+		Assert.assertEquals(2, bucket.getSum());
+		Assert.assertEquals(0, bucket.getMinimum());
+		Assert.assertEquals(1, bucket.getMaximum());
+
+	}
+
+	@Test
+	public void iterate_maximumKey() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		array.put(Long.MAX_VALUE - 1, "a");
+		array.put(Long.MAX_VALUE, "b");
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, Long.MAX_VALUE - 2, 10);
+
+		SparseArrayBucket bucket = iterator.next();
+		Assert.assertEquals(Long.MAX_VALUE, bucket.getUpperBound());
+		Assert.assertEquals(2, bucket.getCount());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_extremeKeys() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		array.put(Long.MIN_VALUE, "a");
+		array.put(0, "b");
+		array.put(1000000, "c");
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, MINUTE);
+
+		SparseArrayBucket bucket = iterator.next();
+		Assert.assertEquals(Long.MIN_VALUE, bucket.getLowerBound());
+		Assert.assertEquals(-153722867280912L * MINUTE - 1, bucket.getUpperBound());
+		Assert.assertEquals(1, bucket.getCount());
+
+		bucket = iterator.next();
+		Assert.assertEquals(0, bucket.getLowerBound());
+		Assert.assertEquals(MINUTE - 1, bucket.getUpperBound());
+		Assert.assertEquals(1, bucket.getCount());
+
+		bucket = iterator.next();
+		Assert.assertEquals(16 * MINUTE, bucket.getLowerBound());
+		Assert.assertEquals(17 * MINUTE - 1, bucket.getUpperBound());
+		Assert.assertEquals(1, bucket.getCount());
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_extremeOrigin() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		array.put(Long.MIN_VALUE, "a");
+		array.put(Long.MAX_VALUE, "b");
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, Long.MAX_VALUE, 10);
+
+		SparseArrayBucket bucket = iterator.next();
+		Assert.assertEquals(Long.MIN_VALUE, bucket.getLowerBound());
+		Assert.assertEquals(Long.MIN_VALUE + 4, bucket.getUpperBound());
+		Assert.assertEquals(1, bucket.getCount());
+
+		bucket = iterator.next();
+		Assert.assertEquals(Long.MAX_VALUE, bucket.getLowerBound());
+		Assert.assertEquals(Long.MAX_VALUE, bucket.getUpperBound());
+		Assert.assertEquals(1, bucket.getCount());
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_longAggregateOverflow() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(1, Long.MAX_VALUE);
+		array.put(2, 1);
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, 10);
+
+		Assert.assertEquals(Long.MIN_VALUE, iterator.next().getSum());
+
+	}
+
+	@Test
+	public void iterate_sameBucket() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(1, 1);
+		array.put(20, 2);
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, 10);
+
+		Assert.assertSame(iterator.next(), iterator.next());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getSum_noAggregate() {
+
+		SparseArray<String> array = new SparseArray<>();
+		array.put(1, "a");
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, 10);
+
+		iterator.next().getSum();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(new SparseIntArray(), 10);
+
+		iterator.remove();
+
+	}
+
+}
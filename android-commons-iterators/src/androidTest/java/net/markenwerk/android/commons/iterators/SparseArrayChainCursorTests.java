@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SparseArrayChainCursorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullShards() {
+
+		new SparseArrayChainCursor<>(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullShard() {
+
+		new SparseArrayChainCursor<>(Arrays.asList(new SparseArray<>(), null));
+
+	}
+
+	@Test
+	public void move() {
+
+		SparseArrayChainCursor<String> cursor = new SparseArrayChainCursor<>(createShards());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(0, cursor.getShard());
+		Assert.assertEquals(0, cursor.getIndex());
+		Assert.assertEquals(1, cursor.getKey());
+		Assert.assertEquals("1", cursor.getValue());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(2, cursor.getKey());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(2, cursor.getShard());
+		Assert.assertEquals(0, cursor.getIndex());
+		Assert.assertEquals(10, cursor.getKey());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(3, cursor.getShard());
+		Assert.assertEquals(20, cursor.getKey());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(30, cursor.getKey());
+
+		Assert.assertFalse(cursor.moveToNext());
+		Assert.assertFalse(cursor.moveToNext());
+
+	}
+
+	@Test
+	public void move_noShards() {
+
+		List<SparseArray<String>> shards = Arrays.asList();
+
+		Assert.assertFalse(new SparseArrayChainCursor<>(shards).moveToNext());
+
+	}
+
+	@Test
+	public void seek() {
+
+		SparseArrayChainCursor<String> cursor = new SparseArrayChainCursor<>(createShards());
+
+		Assert.assertTrue(cursor.seek(2));
+		Assert.assertEquals(2, cursor.getKey());
+
+		Assert.assertTrue(cursor.seek(3));
+		Assert.assertEquals(2, cursor.getShard());
+		Assert.assertEquals(10, cursor.getKey());
+
+		Assert.assertTrue(cursor.seek(21));
+		Assert.assertEquals(30, cursor.getKey());
+		Assert.assertFalse(cursor.moveToNext());
+
+		Assert.assertTrue(cursor.seek(0));
+		Assert.assertEquals(1, cursor.getKey());
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(2, cursor.getKey());
+
+		Assert.assertFalse(cursor.seek(31));
+		Assert.assertFalse(cursor.moveToNext());
+
+	}
+
+	@Test
+	public void seek_many() {
+
+		List<SparseArray<String>> shards = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			SparseArray<String> shard = new SparseArray<>();
+			if (0 != i % 3) {
+				for (int j = 0; j < 10; j++) {
+					shard.put(i * 100 + j * 2, Integer.toString(i * 100 + j * 2));
+				}
+			}
+			shards.add(shard);
+		}
+
+		SparseArrayChainCursor<String> cursor = new SparseArrayChainCursor<>(shards);
+		for (int key = 0; key < 5000; key++) {
+			int expected = key;
+			while (expected < 5000 && (0 == (expected / 100) % 3 || expected % 100 >= 20 || 0 != expected % 2)) {
+				expected++;
+			}
+			if (expected < 5000) {
+				Assert.assertTrue(cursor.seek(key));
+				Assert.assertEquals(expected, cursor.getKey());
+			} else {
+				Assert.assertFalse(cursor.seek(key));
+			}
+		}
+
+	}
+
+	@Test
+	public void trySplit() {
+
+		SparseArrayChainCursor<String> cursor = new SparseArrayChainCursor<>(createShards());
+		cursor.moveToNext();
+
+		SparseArrayChainCursor<String> prefix = cursor.trySplit();
+		Assert.assertNotNull(prefix);
+		Assert.assertEquals(1, prefix.getKey());
+		Assert.assertTrue(prefix.moveToNext());
+		Assert.assertEquals(2, prefix.getKey());
+		Assert.assertFalse(prefix.moveToNext());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(10, cursor.getKey());
+
+		SparseArrayChainCursor<String> secondPrefix = cursor.trySplit();
+		Assert.assertNotNull(secondPrefix);
+		Assert.assertEquals(10, secondPrefix.getKey());
+		Assert.assertFalse(secondPrefix.moveToNext());
+		Assert.assertFalse(secondPrefix.seek(20));
+
+		Assert.assertNull(cursor.trySplit());
+		Assert.assertTrue(cursor.seek(0));
+		Assert.assertEquals(20, cursor.getKey());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getKey_beforeFirst() {
+
+		new SparseArrayChainCursor<>(createShards()).getKey();
+
+	}
+
+	private static List<SparseArray<String>> createShards() {
+		SparseArray<String> first = new SparseArray<>();
+		first.put(1, "1");
+		first.put(2, "2");
+		SparseArray<String> second = new SparseArray<>();
+		SparseArray<String> third = new SparseArray<>();
+		third.put(10, "10");
+		SparseArray<String> fourth = new SparseArray<>();
+		fourth.put(20, "20");
+		fourth.put(30, "30");
+		return Arrays.asList(first, second, third, fourth);
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseArray;
+
+import net.markenwerk.commons.datastructures.Entry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class SparseArrayCursorIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterate_nullCursor() {
+
+		new SparseArrayCursorIterator<>(null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		Object first = new Object();
+		Object second = new Object();
+		Object third = new Object();
+
+		SparseArray<Object> array = new SparseArray<>();
+		array.put(23, first);
+		array.put(42, second);
+		array.put(55, third);
+
+		Iterator<Entry<Integer, Object>> iterator = new SparseArrayCursorIterator<>(new SparseArrayStrideCursor<>(array, 2));
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertTrue(iterator.hasNext());
+
+		Entry<Integer, Object> firstEntry = iterator.next();
+		Assert.assertEquals(Integer.valueOf(23), firstEntry.getKey());
+		Assert.assertSame(first, firstEntry.getValue());
+
+		Entry<Integer, Object> thirdEntry = iterator.next();
+		Assert.assertEquals(Integer.valueOf(55), thirdEntry.getKey());
+		Assert.assertSame(third, thirdEntry.getValue());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Entry<Integer, Object>> iterator = new SparseArrayCursorIterator<>(new SparseArrayFullCursor<>(new SparseArray<>()));
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		SparseArray<Object> array = new SparseArray<>();
+		array.put(23, new Object());
+
+		Iterator<Entry<Integer, Object>> iterator = new SparseArrayCursorIterator<>(new SparseArrayFullCursor<>(array));
+
+		iterator.remove();
+
+	}
+
+}
@@ -86,4 +86,33 @@ public class SparseArrayIteratorTests {
 
 	}
 
+	@Test
+	public void reset() {
+
+		SparseArray<Object> array = new SparseArray<>();
+		array.put(23, new Object());
+
+		SparseArrayIterator<Object> iterator = new SparseArrayIterator<>(array);
+		iterator.next();
+		Assert.assertFalse(iterator.hasNext());
+
+		SparseArray<Object> otherArray = new SparseArray<>();
+		otherArray.put(42, new Object());
+
+		iterator.reset(otherArray);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(42), iterator.next().getKey());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void reset_nullArray() {
+
+		SparseArrayIterator<Object> iterator = new SparseArrayIterator<>(new SparseArray<>());
+
+		iterator.reset(null);
+
+	}
+
 }
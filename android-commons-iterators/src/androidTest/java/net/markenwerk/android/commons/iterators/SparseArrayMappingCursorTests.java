@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SparseArrayMappingCursorTests {
+
+	private static final ValueMapper<String, Integer> LENGTH = new ValueMapper<String, Integer>() {
+
+		@Override
+		public Integer map(String value) {
+			return value.length();
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullCursor() {
+
+		new SparseArrayMappingCursor<>(null, LENGTH);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullMapper() {
+
+		new SparseArrayMappingCursor<String, Integer>(new SparseArrayFullCursor<>(new SparseArray<String>()), null);
+
+	}
+
+	@Test
+	public void move() {
+
+		SparseArray<String> array = new SparseArray<>();
+		for (int i = 0; i < 5; i++) {
+			array.put(i * 10, "value" + i);
+		}
+		array.put(50, "value10");
+
+		SparseArrayCursor<Integer> cursor = new SparseArrayMappingCursor<>(new SparseArrayStrideCursor<>(array, 2), LENGTH);
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(0, cursor.getIndex());
+		Assert.assertEquals(0, cursor.getKey());
+		Assert.assertEquals(Integer.valueOf(6), cursor.getValue());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(4, cursor.getIndex());
+		Assert.assertEquals(40, cursor.getKey());
+
+		Assert.assertFalse(cursor.moveToNext());
+
+	}
+
+	@Test
+	public void getValue_mappedOnce() {
+
+		SparseArray<String> array = new SparseArray<>();
+		for (int i = 0; i < 5; i++) {
+			array.put(i * 10, "value" + i);
+		}
+		final int[] count = new int[1];
+
+		SparseArrayCursor<Integer> cursor = new SparseArrayMappingCursor<>(new SparseArrayFullCursor<>(array), new ValueMapper<String, Integer>() {
+
+			@Override
+			public Integer map(String value) {
+				count[0]++;
+				return value.length();
+			}
+
+		});
+
+		cursor.moveToNext();
+		cursor.getValue();
+		cursor.getValue();
+		cursor.moveToNext();
+		cursor.moveToNext();
+		cursor.getValue();
+
+		Assert.assertEquals(2, count[0]);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getValue_beforeMove() {
+
+		SparseArray<String> array = new SparseArray<>();
+		for (int i = 0; i < 5; i++) {
+			array.put(i * 10, "value" + i);
+		}
+
+		SparseArrayCursor<Integer> cursor = new SparseArrayMappingCursor<>(new SparseArrayFullCursor<>(array), LENGTH);
+
+		cursor.getValue();
+
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class SparseArrayMergeIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterate_nullArrays() {
+
+		new SparseArrayMergeIterator((Object[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterate_nullArray() {
+
+		new SparseArrayMergeIterator(new SparseIntArray(), null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterate_unsupportedArray() {
+
+		new SparseArrayMergeIterator(new Object());
+
+	}
+
+	@Test
+	public void iterate() {
+
+		Object value = new Object();
+		SparseArray<Object> objects = new SparseArray<>();
+		objects.put(23, value);
+
+		SparseIntArray integers = new SparseIntArray();
+		integers.put(5, 5);
+		integers.put(23, 42);
+
+		SparseLongArray longs = new SparseLongArray();
+		longs.put(42, 42L);
+
+		SparseBooleanArray booleans = new SparseBooleanArray();
+		booleans.put(5, true);
+		booleans.put(42, true);
+
+		Iterator<SparseArrayRow> iterator = new SparseArrayMergeIterator(objects, integers, longs, booleans);
+		Assert.assertTrue(iterator.hasNext());
+
+		SparseArrayRow first = iterator.next();
+		Assert.assertEquals(5L, first.getKey());
+		Assert.assertEquals(4, first.getColumnCount());
+		Assert.assertEquals(2, first.getPresentCount());
+		Assert.assertFalse(first.isPresent(0));
+		Assert.assertNull(first.getValue(0));
+		Assert.assertTrue(first.isPresent(1));
+		Assert.assertEquals(5, first.getIntValue(1));
+		Assert.assertFalse(first.isPresent(2));
+		Assert.assertEquals(0L, first.getLongValue(2));
+		Assert.assertTrue(first.getBooleanValue(3));
+		Assert.assertTrue(iterator.hasNext());
+
+		SparseArrayRow second = iterator.next();
+		Assert.assertSame(first, second);
+		Assert.assertEquals(23L, second.getKey());
+		Assert.assertEquals(2, second.getPresentCount());
+		Assert.assertSame(value, second.getValue(0));
+		Assert.assertEquals(42, second.getIntValue(1));
+		Assert.assertEquals(1, second.getIndex(1));
+		Assert.assertFalse(second.isPresent(3));
+		Assert.assertFalse(second.getBooleanValue(3));
+		Assert.assertTrue(iterator.hasNext());
+
+		SparseArrayRow third = iterator.next();
+		Assert.assertEquals(42L, third.getKey());
+		Assert.assertFalse(third.isPresent(0));
+		Assert.assertFalse(third.isPresent(1));
+		Assert.assertEquals(42L, third.getLongValue(2));
+		Assert.assertTrue(third.getBooleanValue(3));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_longKeys() {
+
+		LongSparseArray<String> first = new LongSparseArray<>();
+		first.put(Long.MAX_VALUE, "max");
+		first.put(1L, "one");
+
+		SparseIntArray second = new SparseIntArray();
+		second.put(1, 1);
+		second.put(Integer.MAX_VALUE, 2);
+
+		Iterator<SparseArrayRow> iterator = new SparseArrayMergeIterator(first, second);
+
+		Assert.assertEquals(1L, iterator.next().getKey());
+		Assert.assertEquals(Integer.MAX_VALUE, iterator.next().getKey());
+		SparseArrayRow row = iterator.next();
+		Assert.assertEquals(Long.MAX_VALUE, row.getKey());
+		Assert.assertEquals("max", row.getValue(0));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_manyArrays() {
+
+		SparseIntArray[] arrays = new SparseIntArray[7];
+		for (int i = 0; i < arrays.length; i++) {
+			arrays[i] = new SparseIntArray();
+			for (int key = i; key < 100; key += i + 1) {
+				arrays[i].put(key, i);
+			}
+		}
+
+		Iterator<SparseArrayRow> iterator = new SparseArrayMergeIterator((Object[]) arrays);
+		for (int key = 0; key < 100; key++) {
+			SparseArrayRow row = iterator.next();
+			Assert.assertEquals(key, row.getKey());
+			for (int i = 0; i < arrays.length; i++) {
+				Assert.assertEquals(arrays[i].indexOfKey(key) >= 0, row.isPresent(i));
+			}
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iterate_wrongValueType() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(23, 23);
+
+		new SparseArrayMergeIterator(array).next().getLongValue(0);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iterate_wrongValueTypeAbsent() {
+
+		SparseIntArray first = new SparseIntArray();
+		first.put(23, 23);
+		SparseArray<String> second = new SparseArray<>();
+		second.put(42, "value");
+
+		new SparseArrayMergeIterator(first, second).next().getIntValue(1);
+
+	}
+
+	@Test
+	public void iterate_absentValue() {
+
+		SparseIntArray first = new SparseIntArray();
+		first.put(23, 23);
+		SparseBooleanArray second = new SparseBooleanArray();
+		second.put(42, true);
+
+		SparseArrayRow row = new SparseArrayMergeIterator(first, second).next();
+
+		Assert.assertFalse(row.getBooleanValue(1));
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<SparseArrayRow> iterator = new SparseArrayMergeIterator(new SparseIntArray(), new SparseArray<>());
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(23, 23);
+
+		Iterator<SparseArrayRow> iterator = new SparseArrayMergeIterator(array);
+
+		iterator.remove();
+
+	}
+
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SparseArrayRangesTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void copyRange_nullSource() {
+
+		SparseArrayRanges.copyRange(null, 0, 10, new SparseIntArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void copyRange_nullDestination() {
+
+		SparseArrayRanges.copyRange(new SparseIntArray(), 0, 10, null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void copyRange_invalidRange() {
+
+		SparseArrayRanges.copyRange(new SparseIntArray(), 10, 0, new SparseIntArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void cloneRange_nullSource() {
+
+		SparseArrayRanges.cloneRange((SparseIntArray) null, 0, 10);
+
+	}
+
+	@Test
+	public void copyRange_emptyRange() {
+
+		SparseIntArray source = new SparseIntArray();
+		source.put(1, 1);
+		source.put(10, 10);
+		SparseIntArray destination = new SparseIntArray();
+
+		int count = SparseArrayRanges.copyRange(source, 2, 9, destination);
+
+		Assert.assertEquals(0, count);
+		Assert.assertEquals(0, destination.size());
+
+	}
+
+	@Test
+	public void copyRange_sameArray() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(1, 1);
+		array.put(2, 2);
+
+		int count = SparseArrayRanges.copyRange(array, 0, 10, array);
+
+		Assert.assertEquals(2, count);
+		Assert.assertEquals(2, array.size());
+
+	}
+
+	@Test
+	public void copyRange_sparseIntArray_trailing() {
+
+		SparseIntArray source = new SparseIntArray();
+		for (int i = 0; i < 10; i++) {
+			source.put(i, i * 10);
+		}
+		SparseIntArray destination = new SparseIntArray();
+		destination.put(-1, -10);
+
+		int count = SparseArrayRanges.copyRange(source, 3, 6, destination);
+
+		Assert.assertEquals(4, count);
+		Assert.assertEquals(5, destination.size());
+		Assert.assertEquals(-1, destination.keyAt(0));
+		Assert.assertEquals(3, destination.keyAt(1));
+		Assert.assertEquals(30, destination.valueAt(1));
+		Assert.assertEquals(6, destination.keyAt(4));
+		Assert.assertEquals(60, destination.valueAt(4));
+
+	}
+
+	@Test
+	public void copyRange_sparseIntArray_interleaved() {
+
+		SparseIntArray source = new SparseIntArray();
+		SparseIntArray destination = new SparseIntArray();
+		for (int i = 0; i < 100; i++) {
+			source.put(i * 2, i);
+			destination.put(i * 3, -i);
+		}
+
+		int count = SparseArrayRanges.copyRange(source, 10, 99, destination);
+
+		Assert.assertEquals(45, count);
+		for (int i = 0; i < 100; i++) {
+			int key = i * 2;
+			if (key >= 10 && key <= 99) {
+				Assert.assertEquals(i, destination.get(key));
+			}
+			key = i * 3;
+			if (0 != key % 2 || key < 10 || key > 99) {
+				Assert.assertEquals(-i, destination.get(key));
+			}
+		}
+		for (int i = 1; i < destination.size(); i++) {
+			Assert.assertTrue(destination.keyAt(i - 1) < destination.keyAt(i));
+		}
+
+	}
+
+	@Test
+	public void copyRange_sparseIntArray_few() {
+
+		SparseIntArray source = new SparseIntArray();
+		source.put(5, 50);
+		SparseIntArray destination = new SparseIntArray();
+		destination.put(1, 10);
+		destination.put(5, 0);
+		destination.put(9, 90);
+
+		int count = SparseArrayRanges.copyRange(source, 0, 10, destination);
+
+		Assert.assertEquals(1, count);
+		Assert.assertEquals(3, destination.size());
+		Assert.assertEquals(50, destination.get(5));
+
+	}
+
+	@Test
+	public void copyRange_sparseArray() {
+
+		SparseArray<String> source = new SparseArray<>();
+		SparseArray<String> destination = new SparseArray<>();
+		for (int i = 0; i < 20; i++) {
+			source.put(i * 2, "source" + i);
+			destination.put(i * 2 + 1, "destination" + i);
+		}
+
+		int count = SparseArrayRanges.copyRange(source, 0, 100, destination);
+
+		Assert.assertEquals(20, count);
+		Assert.assertEquals(40, destination.size());
+		Assert.assertEquals("source0", destination.valueAt(0));
+		Assert.assertEquals("destination0", destination.valueAt(1));
+		Assert.assertEquals("destination19", destination.valueAt(39));
+
+	}
+
+	@Test
+	public void copyRange_longSparseArray() {
+
+		LongSparseArray<String> source = new LongSparseArray<>();
+		for (int i = 0; i < 20; i++) {
+			source.put(i * 10000000000L, "value" + i);
+		}
+		LongSparseArray<String> destination = new LongSparseArray<>();
+
+		int count = SparseArrayRanges.copyRange(source, 10000000000L, 30000000000L, destination);
+
+		Assert.assertEquals(3, count);
+		Assert.assertEquals(10000000000L, destination.keyAt(0));
+		Assert.assertEquals("value3", destination.valueAt(2));
+
+	}
+
+	@Test
+	public void copyRange_sparseLongArray() {
+
+		SparseLongArray source = new SparseLongArray();
+		SparseLongArray destination = new SparseLongArray();
+		for (int i = 0; i < 20; i++) {
+			source.put(i, Long.MAX_VALUE - i);
+			destination.put(i, i);
+		}
+
+		int count = SparseArrayRanges.copyRange(source, Integer.MIN_VALUE, Integer.MAX_VALUE, destination);
+
+		Assert.assertEquals(20, count);
+		Assert.assertEquals(20, destination.size());
+		Assert.assertEquals(Long.MAX_VALUE - 19, destination.valueAt(19));
+
+	}
+
+	@Test
+	public void copyRange_sparseBooleanArray() {
+
+		SparseBooleanArray source = new SparseBooleanArray();
+		source.put(Integer.MAX_VALUE, true);
+		SparseBooleanArray destination = new SparseBooleanArray();
+		destination.put(0, false);
+
+		int count = SparseArrayRanges.copyRange(source, 0, Integer.MAX_VALUE, destination);
+
+		Assert.assertEquals(1, count);
+		Assert.assertTrue(destination.get(Integer.MAX_VALUE));
+
+	}
+
+	@Test
+	public void cloneRange_sparseArray() {
+
+		SparseArray<String> source = new SparseArray<>();
+		for (int i = 0; i < 10; i++) {
+			source.put(i, "value" + i);
+		}
+		source.delete(5);
+
+		SparseArray<String> clone = SparseArrayRanges.cloneRange(source, 3, 7);
+
+		Assert.assertEquals(4, clone.size());
+		Assert.assertEquals(3, clone.keyAt(0));
+		Assert.assertEquals(6, clone.keyAt(2));
+		Assert.assertEquals("value7", clone.valueAt(3));
+
+	}
+
+	@Test
+	public void cloneRange_longSparseArray() {
+
+		LongSparseArray<String> source = new LongSparseArray<>();
+		source.put(Long.MIN_VALUE, "a");
+		source.put(0L, "b");
+
+		LongSparseArray<String> clone = SparseArrayRanges.cloneRange(source, Long.MIN_VALUE, -1L);
+
+		Assert.assertEquals(1, clone.size());
+		Assert.assertEquals("a", clone.valueAt(0));
+
+	}
+
+	@Test
+	public void cloneRange_sparseIntArray() {
+
+		SparseIntArray source = new SparseIntArray();
+		source.put(1, 10);
+		source.put(2, 20);
+
+		SparseIntArray clone = SparseArrayRanges.cloneRange(source, 2, 2);
+
+		Assert.assertEquals(1, clone.size());
+		Assert.assertEquals(20, clone.get(2));
+
+	}
+
+	@Test
+	public void cloneRange_sparseLongArray() {
+
+		SparseLongArray source = new SparseLongArray();
+		source.put(1, 10);
+
+		SparseLongArray clone = SparseArrayRanges.cloneRange(source, 2, 3);
+
+		Assert.assertEquals(0, clone.size());
+
+	}
+
+	@Test
+	public void cloneRange_sparseBooleanArray() {
+
+		SparseBooleanArray source = new SparseBooleanArray();
+		source.put(1, true);
+		source.put(2, false);
+
+		SparseBooleanArray clone = SparseArrayRanges.cloneRange(source, 0, 5);
+
+		Assert.assertEquals(2, clone.size());
+		Assert.assertTrue(clone.get(1));
+		Assert.assertFalse(clone.get(2, true));
+
+	}
+
+}
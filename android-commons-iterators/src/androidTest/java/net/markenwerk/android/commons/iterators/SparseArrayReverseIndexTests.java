@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class SparseArrayReverseIndexTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new SparseArrayReverseIndex<>(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_zeroMaximumSize() {
+
+		new SparseArrayReverseIndex<>(new SparseArray<>(), 0);
+
+	}
+
+	@Test
+	public void indexOfValue() {
+
+		Object first = new Object();
+		Object second = new Object();
+		SparseArray<Object> array = new SparseArray<>();
+		array.put(5, first);
+		array.put(23, second);
+		array.put(42, first);
+
+		SparseArrayReverseIndex<Object> index = new SparseArrayReverseIndex<>(array);
+
+		Assert.assertEquals(0, index.indexOfValue(first));
+		Assert.assertEquals(1, index.indexOfValue(second));
+		Assert.assertEquals(-1, index.indexOfValue(new Object()));
+		Assert.assertEquals(-1, index.indexOfValue(null));
+
+	}
+
+	@Test
+	public void indexOfValue_identity() {
+
+		SparseArray<String> array = new SparseArray<>();
+		array.put(23, new String("value"));
+
+		SparseArrayReverseIndex<String> index = new SparseArrayReverseIndex<>(array);
+
+		Assert.assertEquals(-1, index.indexOfValue(new String("value")));
+		Assert.assertEquals(0, index.indexOfValue(array.valueAt(0)));
+
+	}
+
+	@Test
+	public void put() {
+
+		Object first = new Object();
+		Object second = new Object();
+		SparseArray<Object> array = new SparseArray<>();
+		array.put(23, first);
+
+		SparseArrayReverseIndex<Object> index = new SparseArrayReverseIndex<>(array);
+		Assert.assertEquals(0, index.indexOfValue(first));
+
+		index.put(5, second);
+		Assert.assertSame(second, array.get(5));
+		Assert.assertEquals(0, index.indexOfValue(second));
+		Assert.assertEquals(1, index.indexOfValue(first));
+
+		index.put(23, second);
+		Assert.assertEquals(-1, index.indexOfValue(first));
+		Assert.assertEquals(0, index.indexOfValue(second));
+
+		index.put(1, first);
+		index.put(2, first);
+		Assert.assertEquals(0, index.indexOfValue(first));
+
+	}
+
+	@Test
+	public void delete() {
+
+		Object first = new Object();
+		Object second = new Object();
+		SparseArray<Object> array = new SparseArray<>();
+		array.put(5, first);
+		array.put(23, second);
+		array.put(42, first);
+
+		SparseArrayReverseIndex<Object> index = new SparseArrayReverseIndex<>(array);
+		Assert.assertEquals(0, index.indexOfValue(first));
+
+		index.delete(5);
+		Assert.assertNull(array.get(5));
+		Assert.assertEquals(1, index.indexOfValue(first));
+		index.delete(23);
+		Assert.assertEquals(-1, index.indexOfValue(second));
+
+	}
+
+	@Test
+	public void invalidate() {
+
+		Object value = new Object();
+		SparseArray<Object> array = new SparseArray<>();
+
+		SparseArrayReverseIndex<Object> index = new SparseArrayReverseIndex<>(array);
+		Assert.assertEquals(-1, index.indexOfValue(value));
+
+		array.put(23, value);
+		index.invalidate();
+		Assert.assertEquals(0, index.indexOfValue(value));
+
+	}
+
+	@Test
+	public void indexOfValue_evicted() {
+
+		Object[] values = new Object[100];
+		SparseArray<Object> array = new SparseArray<>();
+		for (int i = 0; i < values.length; i++) {
+			values[i] = new Object();
+			array.put(i, values[i]);
+		}
+
+		SparseArrayReverseIndex<Object> index = new SparseArrayReverseIndex<>(array, 10);
+		for (int i = 0; i < values.length; i++) {
+			Assert.assertEquals(i, index.indexOfValue(values[i]));
+		}
+		for (int i = values.length - 1; i >= 0; i--) {
+			Assert.assertEquals(i, index.indexOfValue(values[i]));
+		}
+		Assert.assertEquals(-1, index.indexOfValue(new Object()));
+
+	}
+
+	@Test
+	public void indexOfValue_random() {
+
+		Random random = new Random(42);
+		Object[] values = new Object[50];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = new Object();
+		}
+		SparseArray<Object> array = new SparseArray<>();
+		SparseArrayReverseIndex<Object> index = new SparseArrayReverseIndex<>(array, 20);
+
+		for (int i = 0; i < 5000; i++) {
+			int key = random.nextInt(200);
+			if (random.nextBoolean()) {
+				index.put(key, values[random.nextInt(values.length)]);
+			} else {
+				index.delete(key);
+			}
+			Object value = values[random.nextInt(values.length)];
+			Assert.assertEquals(array.indexOfValue(value), index.indexOfValue(value));
+		}
+
+	}
+
+	@Test
+	public void indexOfValue_boundedDuplicates() {
+
+		Object x = new Object();
+		Object y = new Object();
+		SparseArray<Object> array = new SparseArray<>();
+		array.put(1, x);
+		array.put(2, y);
+		array.put(3, x);
+
+		SparseArrayReverseIndex<Object> index = new SparseArrayReverseIndex<>(array, 1);
+
+		Assert.assertEquals(0, index.indexOfValue(x));
+		Assert.assertEquals(1, index.indexOfValue(y));
+		Assert.assertEquals(0, index.indexOfValue(x));
+
+	}
+
+	@Test
+	public void indexOfValue_boundedDuplicatesRandom() {
+
+		Random random = new Random(23);
+		Object[] values = new Object[30];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = new Object();
+		}
+		SparseArray<Object> array = new SparseArray<>();
+		for (int i = 0; i < 200; i++) {
+			array.put(random.nextInt(500), values[random.nextInt(values.length)]);
+		}
+		SparseArrayReverseIndex<Object> index = new SparseArrayReverseIndex<>(array, 10);
+
+		for (int i = 0; i < 1000; i++) {
+			Object value = values[random.nextInt(values.length)];
+			Assert.assertEquals(array.indexOfValue(value), index.indexOfValue(value));
+			if (0 == i % 100) {
+				index.invalidate();
+			}
+		}
+
+	}
+
+}
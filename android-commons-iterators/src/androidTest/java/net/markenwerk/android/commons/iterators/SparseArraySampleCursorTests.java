@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class SparseArraySampleCursorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new SparseArraySampleCursor<>(null, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCount() {
+
+		new SparseArraySampleCursor<>(new SparseArray<>(), -1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullRandom() {
+
+		new SparseArraySampleCursor<>(new SparseArray<>(), 1, null);
+
+	}
+
+	@Test
+	public void move() {
+
+		SparseArray<Integer> array = new SparseArray<>();
+		for (int i = 0; i < 1000; i++) {
+			array.put(i, i);
+		}
+
+		SparseArrayCursor<Integer> cursor = new SparseArraySampleCursor<>(array, 100, new Random(42));
+
+		int count = 0;
+		int previous = -1;
+		while (cursor.moveToNext()) {
+			Assert.assertTrue(previous < cursor.getIndex());
+			Assert.assertEquals(Integer.valueOf(cursor.getIndex()), cursor.getValue());
+			previous = cursor.getIndex();
+			count++;
+		}
+		Assert.assertEquals(100, count);
+
+	}
+
+	@Test
+	public void move_seeded() {
+
+		SparseArray<Integer> array = new SparseArray<>();
+		for (int i = 0; i < 1000; i++) {
+			array.put(i, i);
+		}
+
+		SparseArrayCursor<Integer> first = new SparseArraySampleCursor<>(array, 10, new Random(23));
+		SparseArrayCursor<Integer> second = new SparseArraySampleCursor<>(array, 10, new Random(23));
+
+		while (first.moveToNext()) {
+			Assert.assertTrue(second.moveToNext());
+			Assert.assertEquals(first.getKey(), second.getKey());
+		}
+		Assert.assertFalse(second.moveToNext());
+
+	}
+
+	@Test
+	public void move_uniform() {
+
+		SparseArray<Integer> array = new SparseArray<>();
+		for (int i = 0; i < 10; i++) {
+			array.put(i, i);
+		}
+
+		int[] counts = new int[10];
+		Random random = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			SparseArrayCursor<Integer> cursor = new SparseArraySampleCursor<>(array, 3, random);
+			while (cursor.moveToNext()) {
+				counts[cursor.getIndex()]++;
+			}
+		}
+		for (int count : counts) {
+			Assert.assertTrue(count > 2700 && count < 3300);
+		}
+
+	}
+
+	@Test
+	public void move_countExceedsSize() {
+
+		SparseArray<Integer> array = new SparseArray<>();
+		array.put(1, 1);
+		array.put(2, 2);
+
+		SparseArrayCursor<Integer> cursor = new SparseArraySampleCursor<>(array, 10);
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(0, cursor.getIndex());
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(1, cursor.getIndex());
+		Assert.assertFalse(cursor.moveToNext());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getKey_beforeFirst() {
+
+		SparseArray<Integer> array = new SparseArray<>();
+		array.put(1, 1);
+
+		new SparseArraySampleCursor<>(array, 1).getKey();
+
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SparseArrayTakeWhileCursorTests {
+
+	private static final IntPredicate BELOW_THIRTY = new IntPredicate() {
+
+		@Override
+		public boolean test(int value) {
+			return value < 30;
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullCursor() {
+
+		new SparseArrayTakeWhileCursor<>(null, BELOW_THIRTY);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new SparseArrayTakeWhileCursor<>(new SparseArrayFullCursor<>(new SparseArray<String>()), null);
+
+	}
+
+	@Test
+	public void move() {
+
+		SparseArray<String> array = new SparseArray<>();
+		for (int i = 0; i < 5; i++) {
+			array.put(i * 10, "value" + i);
+		}
+
+		SparseArrayCursor<String> cursor = new SparseArrayTakeWhileCursor<>(new SparseArrayFullCursor<>(array), BELOW_THIRTY);
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(0, cursor.getKey());
+
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertTrue(cursor.moveToNext());
+		Assert.assertEquals(2, cursor.getIndex());
+		Assert.assertEquals(20, cursor.getKey());
+		Assert.assertEquals("value2", cursor.getValue());
+
+		Assert.assertFalse(cursor.moveToNext());
+		Assert.assertFalse(cursor.moveToNext());
+
+	}
+
+	@Test
+	public void move_stopsSource() {
+
+		SparseArray<String> array = new SparseArray<>();
+		for (int i = 0; i < 5; i++) {
+			array.put(i * 10, "value" + i);
+		}
+		SparseArrayCursor<String> source = new SparseArrayFullCursor<>(array);
+
+		SparseArrayCursor<String> cursor = new SparseArrayTakeWhileCursor<>(source, BELOW_THIRTY);
+
+		while (cursor.moveToNext()) {
+		}
+		cursor.moveToNext();
+
+		Assert.assertEquals(3, source.getIndex());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getKey_afterEnd() {
+
+		SparseArray<String> array = new SparseArray<>();
+		for (int i = 0; i < 5; i++) {
+			array.put(i * 10, "value" + i);
+		}
+
+		SparseArrayCursor<String> cursor = new SparseArrayTakeWhileCursor<>(new SparseArrayFullCursor<>(array), BELOW_THIRTY);
+
+		while (cursor.moveToNext()) {
+		}
+		cursor.getKey();
+
+	}
+
+}
@@ -84,4 +84,33 @@ public class SparseBooleanArrayIteratorTests {
 
 	}
 
+	@Test
+	public void reset() {
+
+		SparseBooleanArray array = new SparseBooleanArray();
+		array.put(23, true);
+
+		SparseBooleanArrayIterator iterator = new SparseBooleanArrayIterator(array);
+		iterator.next();
+		Assert.assertFalse(iterator.hasNext());
+
+		SparseBooleanArray otherArray = new SparseBooleanArray();
+		otherArray.put(42, false);
+
+		iterator.reset(otherArray);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(42), iterator.next().getKey());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void reset_nullArray() {
+
+		SparseBooleanArrayIterator iterator = new SparseBooleanArrayIterator(new SparseBooleanArray());
+
+		iterator.reset(null);
+
+	}
+
 }
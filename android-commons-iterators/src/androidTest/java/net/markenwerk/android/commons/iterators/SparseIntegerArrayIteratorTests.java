@@ -85,4 +85,33 @@ public class SparseIntegerArrayIteratorTests {
 
 	}
 
+	@Test
+	public void reset() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(23, 23);
+
+		SparseIntegerArrayIterator iterator = new SparseIntegerArrayIterator(array);
+		iterator.next();
+		Assert.assertFalse(iterator.hasNext());
+
+		SparseIntArray otherArray = new SparseIntArray();
+		otherArray.put(42, 42);
+
+		iterator.reset(otherArray);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(42), iterator.next().getKey());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void reset_nullArray() {
+
+		SparseIntegerArrayIterator iterator = new SparseIntegerArrayIterator(new SparseIntArray());
+
+		iterator.reset(null);
+
+	}
+
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseIntArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class SparseIntegerArrayKeySetTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new SparseIntegerArrayKeySet(null);
+
+	}
+
+	@Test
+	public void view() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(42, 1);
+		array.put(-5, 2);
+
+		IntSet keys = new SparseIntegerArrayKeySet(array);
+
+		Assert.assertEquals(2, keys.size());
+		Assert.assertEquals(-5, keys.getInt(0));
+		Assert.assertEquals(42, keys.getInt(1));
+		Assert.assertTrue(keys.contains(42));
+		Assert.assertTrue(keys.contains(Integer.valueOf(-5)));
+		Assert.assertFalse(keys.contains(23));
+		Assert.assertFalse(keys.contains("42"));
+		Assert.assertEquals(1, keys.indexOf(42));
+		Assert.assertEquals(-1, keys.indexOf(23));
+		Assert.assertArrayEquals(new int[]{-5, 42}, keys.toIntArray());
+		Assert.assertEquals(new HashSet<>(Arrays.asList(-5, 42)), keys);
+
+	}
+
+	@Test
+	public void view_live() {
+
+		SparseIntArray array = new SparseIntArray();
+
+		IntSet keys = new SparseIntegerArrayKeySet(array);
+		Assert.assertTrue(keys.isEmpty());
+
+		array.put(23, 1);
+		Assert.assertEquals(1, keys.size());
+		Assert.assertTrue(keys.contains(23));
+
+	}
+
+	@Test
+	public void intIterator() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(42, 1);
+		array.put(23, 2);
+
+		IntIterator iterator = new SparseIntegerArrayKeySet(array).intIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(23, iterator.nextInt());
+		Assert.assertEquals(42, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(42, 1);
+
+		Iterator<Integer> iterator = new SparseIntegerArrayKeySet(array).iterator();
+
+		Assert.assertEquals(Integer.valueOf(42), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void intIterator_noNext() {
+
+		new SparseIntegerArrayKeySet(new SparseIntArray()).intIterator().nextInt();
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getInt_outOfRange() {
+
+		new SparseIntegerArrayKeySet(new SparseIntArray()).getInt(0);
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void add() {
+
+		new SparseIntegerArrayKeySet(new SparseIntArray()).add(Integer.valueOf(23));
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(23, 1);
+
+		new SparseIntegerArrayKeySet(array).remove(Integer.valueOf(23));
+
+	}
+
+}
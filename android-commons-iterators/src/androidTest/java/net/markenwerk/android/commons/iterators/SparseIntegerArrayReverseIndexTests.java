@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseIntArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class SparseIntegerArrayReverseIndexTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new SparseIntegerArrayReverseIndex(null);
+
+	}
+
+	@Test
+	public void indexOfValue() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(5, 42);
+		array.put(23, 23);
+		array.put(42, 42);
+
+		SparseIntegerArrayReverseIndex index = new SparseIntegerArrayReverseIndex(array);
+
+		Assert.assertEquals(0, index.indexOfValue(42));
+		Assert.assertEquals(1, index.indexOfValue(23));
+		Assert.assertEquals(-1, index.indexOfValue(5));
+
+	}
+
+	@Test
+	public void put() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(23, 23);
+
+		SparseIntegerArrayReverseIndex index = new SparseIntegerArrayReverseIndex(array);
+		Assert.assertEquals(0, index.indexOfValue(23));
+
+		index.put(5, 42);
+		Assert.assertEquals(42, array.get(5));
+		Assert.assertEquals(0, index.indexOfValue(42));
+		Assert.assertEquals(1, index.indexOfValue(23));
+
+		index.put(23, 42);
+		Assert.assertEquals(-1, index.indexOfValue(23));
+		Assert.assertEquals(0, index.indexOfValue(42));
+
+	}
+
+	@Test
+	public void delete() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(5, 42);
+		array.put(23, 23);
+		array.put(42, 42);
+
+		SparseIntegerArrayReverseIndex index = new SparseIntegerArrayReverseIndex(array);
+		Assert.assertEquals(0, index.indexOfValue(42));
+
+		index.delete(5);
+		Assert.assertEquals(1, index.indexOfValue(42));
+		index.delete(23);
+		Assert.assertEquals(-1, index.indexOfValue(23));
+
+	}
+
+	@Test
+	public void invalidate() {
+
+		SparseIntArray array = new SparseIntArray();
+
+		SparseIntegerArrayReverseIndex index = new SparseIntegerArrayReverseIndex(array);
+		Assert.assertEquals(-1, index.indexOfValue(23));
+
+		array.put(23, 23);
+		index.invalidate();
+		Assert.assertEquals(0, index.indexOfValue(23));
+
+	}
+
+	@Test
+	public void indexOfValue_stale() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(5, 42);
+		array.put(23, 42);
+
+		SparseIntegerArrayReverseIndex index = new SparseIntegerArrayReverseIndex(array);
+		Assert.assertEquals(0, index.indexOfValue(42));
+
+		array.delete(5);
+		Assert.assertEquals(0, index.indexOfValue(42));
+
+	}
+
+	@Test
+	public void indexOfValue_random() {
+
+		Random random = new Random(42);
+		SparseIntArray array = new SparseIntArray();
+		SparseIntegerArrayReverseIndex index = new SparseIntegerArrayReverseIndex(array);
+
+		for (int i = 0; i < 5000; i++) {
+			int key = random.nextInt(200);
+			if (random.nextBoolean()) {
+				index.put(key, random.nextInt(50));
+			} else {
+				index.delete(key);
+			}
+			int value = random.nextInt(50);
+			Assert.assertEquals(array.indexOfValue(value), index.indexOfValue(value));
+		}
+
+	}
+
+}
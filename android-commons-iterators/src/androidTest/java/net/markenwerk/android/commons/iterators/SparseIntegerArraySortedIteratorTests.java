@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseIntArray;
+
+import net.markenwerk.commons.datastructures.Entry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class SparseIntegerArraySortedIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterate_nullArray() {
+
+		new SparseIntegerArraySortedIterator(null, SortOrder.ASCENDING);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterate_nullOrder() {
+
+		new SparseIntegerArraySortedIterator(new SparseIntArray(), null);
+
+	}
+
+	@Test
+	public void iterate_ascending() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(1, 42);
+		array.put(2, 5);
+		array.put(3, 23);
+		array.put(4, 5);
+
+		Iterator<Entry<Integer, Integer>> iterator = new SparseIntegerArraySortedIterator(array, SortOrder.ASCENDING);
+
+		assertEntry(2, 5, iterator.next());
+		assertEntry(4, 5, iterator.next());
+		assertEntry(3, 23, iterator.next());
+		assertEntry(1, 42, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_descending() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(1, 42);
+		array.put(2, 5);
+		array.put(3, 23);
+
+		Iterator<Entry<Integer, Integer>> iterator = new SparseIntegerArraySortedIterator(array, SortOrder.DESCENDING);
+
+		assertEntry(1, 42, iterator.next());
+		assertEntry(3, 23, iterator.next());
+		assertEntry(2, 5, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_random() {
+
+		Random random = new Random(42);
+		SparseIntArray array = new SparseIntArray();
+		for (int i = 0; i < 1000; i++) {
+			array.put(random.nextInt(10000), random.nextInt());
+		}
+
+		Iterator<Entry<Integer, Integer>> iterator = new SparseIntegerArraySortedIterator(array, SortOrder.ASCENDING);
+		Entry<Integer, Integer> previous = iterator.next();
+		int count = 1;
+		while (iterator.hasNext()) {
+			Entry<Integer, Integer> current = iterator.next();
+			Assert.assertTrue(previous.getValue() <= current.getValue());
+			previous = current;
+			count++;
+		}
+		Assert.assertEquals(array.size(), count);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Entry<Integer, Integer>> iterator = new SparseIntegerArraySortedIterator(new SparseIntArray(), SortOrder.ASCENDING);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(23, 23);
+
+		Iterator<Entry<Integer, Integer>> iterator = new SparseIntegerArraySortedIterator(array, SortOrder.ASCENDING);
+
+		iterator.remove();
+
+	}
+
+	private static void assertEntry(int key, int value, Entry<Integer, Integer> entry) {
+		Assert.assertEquals(Integer.valueOf(key), entry.getKey());
+		Assert.assertEquals(Integer.valueOf(value), entry.getValue());
+	}
+
+}
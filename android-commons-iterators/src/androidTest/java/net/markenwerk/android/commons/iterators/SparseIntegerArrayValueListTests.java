@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseIntArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public class SparseIntegerArrayValueListTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new SparseIntegerArrayValueList(null);
+
+	}
+
+	@Test
+	public void view() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(42, 5);
+		array.put(23, 42);
+		array.put(5, 42);
+
+		IntList values = new SparseIntegerArrayValueList(array);
+
+		Assert.assertEquals(3, values.size());
+		Assert.assertEquals(42, values.getInt(0));
+		Assert.assertEquals(Integer.valueOf(5), values.get(2));
+		Assert.assertTrue(values.contains(5));
+		Assert.assertFalse(values.contains(23));
+		Assert.assertTrue(values.contains((Object) Integer.valueOf(42)));
+		Assert.assertEquals(0, values.indexOf(42));
+		Assert.assertEquals(-1, values.indexOf(23));
+		Assert.assertArrayEquals(new int[]{42, 42, 5}, values.toIntArray());
+		Assert.assertEquals(Arrays.asList(42, 42, 5), values);
+
+	}
+
+	@Test
+	public void view_live() {
+
+		SparseIntArray array = new SparseIntArray();
+
+		IntList values = new SparseIntegerArrayValueList(array);
+		Assert.assertTrue(values.isEmpty());
+
+		array.put(23, 42);
+		Assert.assertEquals(1, values.size());
+		Assert.assertEquals(42, values.getInt(0));
+
+	}
+
+	@Test
+	public void intIterator() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(42, 5);
+		array.put(23, 42);
+
+		IntIterator iterator = new SparseIntegerArrayValueList(array).intIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(42, iterator.nextInt());
+		Assert.assertEquals(5, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void intIterator_noNext() {
+
+		new SparseIntegerArrayValueList(new SparseIntArray()).intIterator().nextInt();
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getInt_outOfRange() {
+
+		new SparseIntegerArrayValueList(new SparseIntArray()).getInt(0);
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void set() {
+
+		SparseIntArray array = new SparseIntArray();
+		array.put(23, 42);
+
+		new SparseIntegerArrayValueList(array).set(0, Integer.valueOf(5));
+
+	}
+
+}
@@ -88,4 +88,33 @@ public class SparseLongArrayIteratorTests {
 
 	}
 
+	@Test
+	public void reset() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(23, 23L);
+
+		SparseLongArrayIterator iterator = new SparseLongArrayIterator(array);
+		iterator.next();
+		Assert.assertFalse(iterator.hasNext());
+
+		SparseLongArray otherArray = new SparseLongArray();
+		otherArray.put(42, 42L);
+
+		iterator.reset(otherArray);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(42), iterator.next().getKey());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void reset_nullArray() {
+
+		SparseLongArrayIterator iterator = new SparseLongArrayIterator(new SparseLongArray());
+
+		iterator.reset(null);
+
+	}
+
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseLongArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class SparseLongArrayReverseIndexTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new SparseLongArrayReverseIndex(null);
+
+	}
+
+	@Test
+	public void indexOfValue() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(5, 42L);
+		array.put(23, 23L);
+		array.put(42, 42L);
+
+		SparseLongArrayReverseIndex index = new SparseLongArrayReverseIndex(array);
+
+		Assert.assertEquals(0, index.indexOfValue(42L));
+		Assert.assertEquals(1, index.indexOfValue(23L));
+		Assert.assertEquals(-1, index.indexOfValue(5L));
+
+	}
+
+	@Test
+	public void put() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(23, 23L);
+
+		SparseLongArrayReverseIndex index = new SparseLongArrayReverseIndex(array);
+		Assert.assertEquals(0, index.indexOfValue(23L));
+
+		index.put(5, 42L);
+		Assert.assertEquals(42L, array.get(5));
+		Assert.assertEquals(0, index.indexOfValue(42L));
+		Assert.assertEquals(1, index.indexOfValue(23L));
+
+		index.put(23, 42L);
+		Assert.assertEquals(-1, index.indexOfValue(23L));
+		Assert.assertEquals(0, index.indexOfValue(42L));
+
+	}
+
+	@Test
+	public void delete() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(5, 42L);
+		array.put(23, 23L);
+		array.put(42, 42L);
+
+		SparseLongArrayReverseIndex index = new SparseLongArrayReverseIndex(array);
+		Assert.assertEquals(0, index.indexOfValue(42L));
+
+		index.delete(5);
+		Assert.assertEquals(1, index.indexOfValue(42L));
+		index.delete(23);
+		Assert.assertEquals(-1, index.indexOfValue(23L));
+
+	}
+
+	@Test
+	public void invalidate() {
+
+		SparseLongArray array = new SparseLongArray();
+
+		SparseLongArrayReverseIndex index = new SparseLongArrayReverseIndex(array);
+		Assert.assertEquals(-1, index.indexOfValue(23L));
+
+		array.put(23, 23L);
+		index.invalidate();
+		Assert.assertEquals(0, index.indexOfValue(23L));
+
+	}
+
+	@Test
+	public void indexOfValue_stale() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(5, 42L);
+		array.put(23, 42L);
+
+		SparseLongArrayReverseIndex index = new SparseLongArrayReverseIndex(array);
+		Assert.assertEquals(0, index.indexOfValue(42L));
+
+		array.delete(5);
+		Assert.assertEquals(0, index.indexOfValue(42L));
+
+	}
+
+	@Test
+	public void indexOfValue_random() {
+
+		Random random = new Random(42);
+		SparseLongArray array = new SparseLongArray();
+		SparseLongArrayReverseIndex index = new SparseLongArrayReverseIndex(array);
+
+		for (int i = 0; i < 5000; i++) {
+			int key = random.nextInt(200);
+			if (random.nextBoolean()) {
+				index.put(key, random.nextInt(50));
+			} else {
+				index.delete(key);
+			}
+			long value = random.nextInt(50);
+			Assert.assertEquals(array.indexOfValue(value), index.indexOfValue(value));
+		}
+
+	}
+
+}
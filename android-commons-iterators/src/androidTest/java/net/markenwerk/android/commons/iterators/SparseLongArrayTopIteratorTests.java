@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseLongArray;
+
+import net.markenwerk.commons.datastructures.Entry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class SparseLongArrayTopIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterate_nullArray() {
+
+		new SparseLongArrayTopIterator(null, 1, SortOrder.DESCENDING);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterate_negativeCount() {
+
+		new SparseLongArrayTopIterator(new SparseLongArray(), -1, SortOrder.DESCENDING);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterate_nullOrder() {
+
+		new SparseLongArrayTopIterator(new SparseLongArray(), 1, null);
+
+	}
+
+	@Test
+	public void iterate_descending() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(1, 5L);
+		array.put(2, 42L);
+		array.put(3, 23L);
+		array.put(4, 42L);
+
+		Iterator<Entry<Integer, Long>> iterator = new SparseLongArrayTopIterator(array, 3, SortOrder.DESCENDING);
+
+		assertEntry(2, 42L, iterator.next());
+		assertEntry(4, 42L, iterator.next());
+		assertEntry(3, 23L, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_ascending() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(1, 5L);
+		array.put(2, 42L);
+		array.put(3, -23L);
+		array.put(4, 42L);
+
+		Iterator<Entry<Integer, Long>> iterator = new SparseLongArrayTopIterator(array, 2, SortOrder.ASCENDING);
+
+		assertEntry(3, -23L, iterator.next());
+		assertEntry(1, 5L, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_countExceedsSize() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(1, 23L);
+		array.put(2, 42L);
+
+		Iterator<Entry<Integer, Long>> iterator = new SparseLongArrayTopIterator(array, 10, SortOrder.DESCENDING);
+
+		assertEntry(2, 42L, iterator.next());
+		assertEntry(1, 23L, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_zeroCount() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(1, 23L);
+
+		Iterator<Entry<Integer, Long>> iterator = new SparseLongArrayTopIterator(array, 0, SortOrder.DESCENDING);
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_random() {
+
+		Random random = new Random(42);
+		SparseLongArray array = new SparseLongArray();
+		for (int i = 0; i < 1000; i++) {
+			array.put(random.nextInt(10000), random.nextInt(100));
+		}
+
+		Iterator<Entry<Integer, Long>> iterator = new SparseLongArrayTopIterator(array, 20, SortOrder.DESCENDING);
+		Iterator<Entry<Integer, Long>> sorted = new SparseLongArraySortedIterator(array, SortOrder.DESCENDING);
+		for (int i = 0; i < 20; i++) {
+			Entry<Integer, Long> expected = sorted.next();
+			assertEntry(expected.getKey(), expected.getValue(), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Entry<Integer, Long>> iterator = new SparseLongArrayTopIterator(new SparseLongArray(), 1, SortOrder.DESCENDING);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(23, 23L);
+
+		Iterator<Entry<Integer, Long>> iterator = new SparseLongArrayTopIterator(array, 1, SortOrder.DESCENDING);
+
+		iterator.remove();
+
+	}
+
+	private static void assertEntry(int key, long value, Entry<Integer, Long> entry) {
+		Assert.assertEquals(Integer.valueOf(key), entry.getKey());
+		Assert.assertEquals(Long.valueOf(value), entry.getValue());
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseLongArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public class SparseLongArrayValueListTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new SparseLongArrayValueList(null);
+
+	}
+
+	@Test
+	public void view() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(42, 5L);
+		array.put(23, 42L);
+		array.put(5, 42L);
+
+		LongList values = new SparseLongArrayValueList(array);
+
+		Assert.assertEquals(3, values.size());
+		Assert.assertEquals(42L, values.getLong(0));
+		Assert.assertEquals(Long.valueOf(5L), values.get(2));
+		Assert.assertTrue(values.contains(5L));
+		Assert.assertFalse(values.contains(23L));
+		Assert.assertTrue(values.contains((Object) Long.valueOf(42L)));
+		Assert.assertEquals(0, values.indexOf(42L));
+		Assert.assertEquals(-1, values.indexOf(23L));
+		Assert.assertArrayEquals(new long[]{42L, 42L, 5L}, values.toLongArray());
+		Assert.assertEquals(Arrays.asList(42L, 42L, 5L), values);
+
+	}
+
+	@Test
+	public void view_live() {
+
+		SparseLongArray array = new SparseLongArray();
+
+		LongList values = new SparseLongArrayValueList(array);
+		Assert.assertTrue(values.isEmpty());
+
+		array.put(23, 42L);
+		Assert.assertEquals(1, values.size());
+		Assert.assertEquals(42L, values.getLong(0));
+
+	}
+
+	@Test
+	public void longIterator() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(42, 5L);
+		array.put(23, 42L);
+
+		LongIterator iterator = new SparseLongArrayValueList(array).longIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(42L, iterator.nextLong());
+		Assert.assertEquals(5L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void longIterator_noNext() {
+
+		new SparseLongArrayValueList(new SparseLongArray()).longIterator().nextLong();
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getLong_outOfRange() {
+
+		new SparseLongArrayValueList(new SparseLongArray()).getLong(0);
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void set() {
+
+		SparseLongArray array = new SparseLongArray();
+		array.put(23, 42L);
+
+		new SparseLongArrayValueList(array).set(0, Long.valueOf(5L));
+
+	}
+
+}
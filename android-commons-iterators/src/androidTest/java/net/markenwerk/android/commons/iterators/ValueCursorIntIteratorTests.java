@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+public class ValueCursorIntIteratorTests {
+
+	private static final ToIntMapper<String> LENGTH = new ToIntMapper<String>() {
+
+		@Override
+		public int map(String value) {
+			return value.length();
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullCursor() {
+
+		new ValueCursorIntIterator<>(null, LENGTH);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullMapper() {
+
+		new ValueCursorIntIterator<String>(new SparseArrayFullCursor<>(new SparseArray<String>()), null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		SparseArray<String> array = new SparseArray<>();
+		array.put(1, "a");
+		array.put(2, "bb");
+
+		IntIterator iterator = new ValueCursorIntIterator<>(new SparseArrayFullCursor<>(array), LENGTH);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_empty() {
+
+		IntIterator iterator = new ValueCursorIntIterator<>(new SparseArrayFullCursor<>(new SparseArray<String>()), LENGTH);
+
+		iterator.nextInt();
+
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+public class ValueCursorLongIteratorTests {
+
+	private static final ToLongMapper<String> LENGTH = new ToLongMapper<String>() {
+
+		@Override
+		public long map(String value) {
+			return value.length();
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullCursor() {
+
+		new ValueCursorLongIterator<>(null, LENGTH);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullMapper() {
+
+		new ValueCursorLongIterator<String>(new LongSparseArrayFullCursor<>(new LongSparseArray<String>()), null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		LongSparseArray<String> array = new LongSparseArray<>();
+		array.put(1L, "a");
+		array.put(2L, "bb");
+
+		LongIterator iterator = new ValueCursorLongIterator<>(new LongSparseArrayFullCursor<>(array), LENGTH);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_empty() {
+
+		LongIterator iterator = new ValueCursorLongIterator<>(new LongSparseArrayFullCursor<>(new LongSparseArray<String>()), LENGTH);
+
+		iterator.nextLong();
+
+	}
+
+}
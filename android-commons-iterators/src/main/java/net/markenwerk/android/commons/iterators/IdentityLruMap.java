@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import java.util.Arrays;
+
+/**
+ * An {@link IdentityLruMap} is a bounded map from objects, that are compared by identity, to integers, that
+ * evicts the least recently used mapping when it is full. Mappings are stored in parallel arrays, such that
+ * neither lookups nor updates create objects.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+final class IdentityLruMap {
+
+	public static final int NONE = -1;
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final int maximumSize;
+
+	private Object[] keys;
+
+	private int[] values;
+
+	private int[] chain;
+
+	private int[] older;
+
+	private int[] newer;
+
+	private int[] buckets;
+
+	private int size;
+
+	private int used;
+
+	private int free = NONE;
+
+	private int eldest = NONE;
+
+	private int youngest = NONE;
+
+	private int evictions;
+
+	public IdentityLruMap(int maximumSize) {
+		this.maximumSize = maximumSize;
+		allocate(Math.min(INITIAL_CAPACITY, maximumSize));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isFull() {
+		return size == maximumSize;
+	}
+
+	public int evictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the slot of the mapping for the given key and marks it as recently used.
+	 *
+	 * @param key The key.
+	 * @return The slot or {@link IdentityLruMap#NONE}.
+	 */
+	public int find(Object key) {
+		for (int slot = buckets[bucket(key, buckets.length)]; NONE != slot; slot = chain[slot]) {
+			if (keys[slot] == key) {
+				touch(slot);
+				return slot;
+			}
+		}
+		return NONE;
+	}
+
+	public int valueAt(int slot) {
+		return values[slot];
+	}
+
+	public void put(Object key, int value) {
+		int slot = find(key);
+		if (NONE != slot) {
+			values[slot] = value;
+			return;
+		}
+		if (size == maximumSize) {
+			removeSlot(eldest);
+			evictions++;
+		}
+		if (NONE != free) {
+			slot = free;
+			free = chain[slot];
+		} else {
+			if (used == keys.length) {
+				grow();
+			}
+			slot = used++;
+		}
+		keys[slot] = key;
+		values[slot] = value;
+		int bucket = bucket(key, buckets.length);
+		chain[slot] = buckets[bucket];
+		buckets[bucket] = slot;
+		older[slot] = youngest;
+		newer[slot] = NONE;
+		if (NONE == youngest) {
+			eldest = slot;
+		} else {
+			newer[youngest] = slot;
+		}
+		youngest = slot;
+		size++;
+	}
+
+	public void remove(Object key) {
+		for (int slot = buckets[bucket(key, buckets.length)]; NONE != slot; slot = chain[slot]) {
+			if (keys[slot] == key) {
+				removeSlot(slot);
+				return;
+			}
+		}
+	}
+
+	public void clear() {
+		Arrays.fill(keys, null);
+		Arrays.fill(buckets, NONE);
+		size = 0;
+		used = 0;
+		free = NONE;
+		eldest = NONE;
+		youngest = NONE;
+		evictions = 0;
+	}
+
+	private void touch(int slot) {
+		if (youngest != slot) {
+			unlink(slot);
+			older[slot] = youngest;
+			newer[slot] = NONE;
+			newer[youngest] = slot;
+			youngest = slot;
+		}
+	}
+
+	private void unlink(int slot) {
+		if (NONE == older[slot]) {
+			eldest = newer[slot];
+		} else {
+			newer[older[slot]] = newer[slot];
+		}
+		if (NONE == newer[slot]) {
+			youngest = older[slot];
+		} else {
+			older[newer[slot]] = older[slot];
+		}
+	}
+
+	private void removeSlot(int slot) {
+		int bucket = bucket(keys[slot], buckets.length);
+		if (buckets[bucket] == slot) {
+			buckets[bucket] = chain[slot];
+		} else {
+			int previous = buckets[bucket];
+			while (chain[previous] != slot) {
+				previous = chain[previous];
+			}
+			chain[previous] = chain[slot];
+		}
+		unlink(slot);
+		keys[slot] = null;
+		chain[slot] = free;
+		free = slot;
+		size--;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new int[capacity];
+		chain = new int[capacity];
+		older = new int[capacity];
+		newer = new int[capacity];
+		int bucketCount = 1;
+		while (bucketCount < capacity * 2) {
+			bucketCount <<= 1;
+		}
+		buckets = new int[bucketCount];
+		Arrays.fill(buckets, NONE);
+	}
+
+	private void grow() {
+		int capacity = (int) Math.min((long) keys.length * 2, maximumSize);
+		Object[] grownKeys = new Object[capacity];
+		System.arraycopy(keys, 0, grownKeys, 0, keys.length);
+		keys = grownKeys;
+		values = grow(values, capacity);
+		chain = grow(chain, capacity);
+		older = grow(older, capacity);
+		newer = grow(newer, capacity);
+		int bucketCount = buckets.length;
+		while (bucketCount < capacity * 2 && bucketCount < (1 << 30)) {
+			bucketCount <<= 1;
+		}
+		buckets = new int[bucketCount];
+		Arrays.fill(buckets, NONE);
+		for (int slot = eldest; NONE != slot; slot = newer[slot]) {
+			int bucket = bucket(keys[slot], bucketCount);
+			chain[slot] = buckets[bucket];
+			buckets[bucket] = slot;
+		}
+	}
+
+	private static int[] grow(int[] array, int capacity) {
+		int[] grownArray = new int[capacity];
+		System.arraycopy(array, 0, grownArray, 0, array.length);
+		return grownArray;
+	}
+
+	private static int bucket(Object key, int bucketCount) {
+		int hash = System.identityHashCode(key);
+		return (hash ^ (hash >>> 16)) & (bucketCount - 1);
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+/**
+ * An {@link IndexHeap} is a binary heap of indices into a sparse array, that is ordered by
+ * {@link IndexHeap#compare(int, int)} and, for equal values, by index.
+ *
+ * <p>A regular {@link IndexHeap} has the first index in that order at its top, a reversed
+ * {@link IndexHeap} has the last index in that order at its top.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+abstract class IndexHeap {
+
+	private final int[] heap;
+
+	private final boolean reversed;
+
+	private int size;
+
+	protected IndexHeap(int capacity, boolean reversed) {
+		this.heap = new int[capacity];
+		this.reversed = reversed;
+	}
+
+	/**
+	 * Compares the values at the given indices.
+	 *
+	 * @param left  The left index.
+	 * @param right The right index.
+	 * @return A negative value, zero or a positive value, if the value at the left index comes before, together
+	 * with or after the value at the right index.
+	 */
+	protected abstract int compare(int left, int right);
+
+	public final int size() {
+		return size;
+	}
+
+	public final int peek() {
+		return heap[0];
+	}
+
+	public final void add(int index) {
+		heap[size] = index;
+		siftUp(size++);
+	}
+
+	public final int poll() {
+		int top = heap[0];
+		if (0 != --size) {
+			heap[0] = heap[size];
+			siftDown(0);
+		}
+		return top;
+	}
+
+	public final void replaceTop(int index) {
+		heap[0] = index;
+		siftDown(0);
+	}
+
+	/**
+	 * Fills this {@link IndexHeap} with all indices from {@literal 0} to the capacity of this
+	 * {@link IndexHeap} in linear time.
+	 */
+	public final void fill() {
+		for (int i = 0; i < heap.length; i++) {
+			heap[i] = i;
+		}
+		size = heap.length;
+		for (int i = size / 2 - 1; i >= 0; i--) {
+			siftDown(i);
+		}
+	}
+
+	/**
+	 * Removes all indices from this {@link IndexHeap} in place, such that the returned array contains them in
+	 * regular order for a reversed {@link IndexHeap} and in reversed order for a regular {@link IndexHeap}.
+	 *
+	 * @return The sorted indices.
+	 */
+	public final int[] drain() {
+		int count = size;
+		while (size > 1) {
+			int top = heap[0];
+			heap[0] = heap[--size];
+			siftDown(0);
+			heap[size] = top;
+		}
+		size = 0;
+		if (count == heap.length) {
+			return heap;
+		}
+		int[] sorted = new int[count];
+		System.arraycopy(heap, 0, sorted, 0, count);
+		return sorted;
+	}
+
+	private boolean above(int left, int right) {
+		int comparison = compare(left, right);
+		if (0 == comparison) {
+			comparison = left < right ? -1 : (left == right ? 0 : 1);
+		}
+		return reversed ? comparison > 0 : comparison < 0;
+	}
+
+	private void siftUp(int position) {
+		int index = heap[position];
+		while (position > 0) {
+			int parent = (position - 1) / 2;
+			if (!above(index, heap[parent])) {
+				break;
+			}
+			heap[position] = heap[parent];
+			position = parent;
+		}
+		heap[position] = index;
+	}
+
+	private void siftDown(int position) {
+		int index = heap[position];
+		int half = size / 2;
+		while (position < half) {
+			int child = 2 * position + 1;
+			int right = child + 1;
+			if (right < size && above(heap[right], heap[child])) {
+				child = right;
+			}
+			if (!above(heap[child], index)) {
+				break;
+			}
+			heap[position] = heap[child];
+			position = child;
+		}
+		heap[position] = index;
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link InstrumentedIterator} is an {@link Iterator} that records a single traversal of a given
+ * {@link Iterator} in {@link IterationMetrics}.
+ *
+ * <p>A traversal is completed, when {@link InstrumentedIterator#hasNext()} returns {@literal false} for the
+ * first time. A traversal is abandoned, when {@link InstrumentedIterator#close()} is called before the
+ * traversal has been completed.
+ *
+ * <p>Yielded elements are counted locally and only recorded once the traversal is completed or abandoned, such
+ * that yielding an element doesn't touch any shared state.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class InstrumentedIterator<Payload> implements Iterator<Payload>, Closeable {
+
+	private final Iterator<? extends Payload> iterator;
+
+	private final IterationCounters counters;
+
+	private final IterationClock clock;
+
+	private final long startTime;
+
+	private long yielded;
+
+	private boolean finished;
+
+	InstrumentedIterator(Iterator<? extends Payload> iterator, IterationCounters counters, IterationClock clock) {
+		this.iterator = iterator;
+		this.counters = counters;
+		this.clock = clock;
+		this.startTime = clock.nanoTime();
+		counters.started();
+	}
+
+	public boolean hasNext() {
+		boolean hasNext = iterator.hasNext();
+		if (!hasNext && !finished) {
+			finished = true;
+			counters.completed(clock.nanoTime() - startTime, yielded);
+		}
+		return hasNext;
+	}
+
+	public Payload next() throws NoSuchElementException {
+		Payload next = iterator.next();
+		yielded++;
+		return next;
+	}
+
+	public void remove() throws UnsupportedOperationException, IllegalStateException {
+		iterator.remove();
+	}
+
+	/**
+	 * Finishes the traversal. Records the traversal as abandoned, if it hasn't been completed yet.
+	 */
+	public void close() {
+		if (!finished) {
+			finished = true;
+			counters.abandoned(clock.nanoTime() - startTime, yielded);
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link IntIterator} is an iterator over primitive {@literal int} values, that doesn't box the yielded
+ * values.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public interface IntIterator {
+
+	/**
+	 * Returns whether this {@link IntIterator} has a next value.
+	 *
+	 * @return Whether this {@link IntIterator} has a next value.
+	 */
+	boolean hasNext();
+
+	/**
+	 * Returns the next value.
+	 *
+	 * @return The next value.
+	 * @throws NoSuchElementException If this {@link IntIterator} has no next value.
+	 */
+	int nextInt() throws NoSuchElementException;
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import java.util.AbstractList;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * An {@link IntList} is a read only list of primitive {@literal int} values, that is backed by an underlying
+ * data structure.
+ *
+ * <p>{@link IntList#getInt(int)} takes {@literal O(1)} time. {@link IntList#intIterator()} doesn't box
+ * the yielded values. The implementation of {@link java.util.List} is a compatibility layer, that boxes all
+ * values.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public abstract class IntList extends AbstractList<Integer> implements RandomAccess {
+
+	/**
+	 * Returns the value with the given index.
+	 *
+	 * @param index The index.
+	 * @return The value.
+	 * @throws IndexOutOfBoundsException If the given index is out of range.
+	 */
+	public final int getInt(int index) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("The given index is out of range: " + index);
+		}
+		return valueAt(index);
+	}
+
+	/**
+	 * Returns the value with the given index, which is known to be in range.
+	 *
+	 * @param index The index.
+	 * @return The value.
+	 */
+	protected abstract int valueAt(int index);
+
+	@Override
+	public final Integer get(int index) throws IndexOutOfBoundsException {
+		return getInt(index);
+	}
+
+	/**
+	 * Returns whether this {@link IntList} contains the given value.
+	 *
+	 * @param value The value.
+	 * @return Whether this {@link IntList} contains the given value.
+	 */
+	public final boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the given value.
+	 *
+	 * @param value The value.
+	 * @return The index or {@literal -1}, if this {@link IntList} doesn't contain the given value.
+	 */
+	public final int indexOf(int value) {
+		for (int i = 0, n = size(); i < n; i++) {
+			if (valueAt(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns an {@link IntIterator} over all values.
+	 *
+	 * @return The {@link IntIterator}.
+	 */
+	public final IntIterator intIterator() {
+		return new IntIterator() {
+
+			private int index;
+
+			public boolean hasNext() {
+				return index < size();
+			}
+
+			public int nextInt() throws NoSuchElementException {
+				if (!hasNext()) {
+					throw new NoSuchElementException("This iterator has no next element");
+				}
+				return valueAt(index++);
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a new array that contains all values.
+	 *
+	 * @return The array.
+	 */
+	public final int[] toIntArray() {
+		int[] values = new int[size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = valueAt(i);
+		}
+		return values;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link IterationCounters} are the lock free counters of {@link IterationMetrics} for a single tag.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+final class IterationCounters {
+
+	private final String tag;
+
+	private final StripedCounter started = new StripedCounter();
+
+	private final StripedCounter completed = new StripedCounter();
+
+	private final StripedCounter abandoned = new StripedCounter();
+
+	private final StripedCounter yielded = new StripedCounter();
+
+	private final StripedCounter totalTime = new StripedCounter();
+
+	private final AtomicLong maximumTime = new AtomicLong();
+
+	public IterationCounters(String tag) {
+		this.tag = tag;
+	}
+
+	public void started() {
+		started.increment();
+	}
+
+	public void completed(long time, long yieldedCount) {
+		completed.increment();
+		finished(time, yieldedCount);
+	}
+
+	public void abandoned(long time, long yieldedCount) {
+		abandoned.increment();
+		finished(time, yieldedCount);
+	}
+
+	private void finished(long time, long yieldedCount) {
+		yielded.add(yieldedCount);
+		totalTime.add(time);
+		long maximum = maximumTime.get();
+		while (time > maximum && !maximumTime.compareAndSet(maximum, time)) {
+			maximum = maximumTime.get();
+		}
+	}
+
+	public IterationStatistics snapshot() {
+		return new IterationStatistics(tag, started.sum(), completed.sum(), abandoned.sum(), yielded.sum(),
+			totalTime.sum(), maximumTime.get());
+	}
+
+}
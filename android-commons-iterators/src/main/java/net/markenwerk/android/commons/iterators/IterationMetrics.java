@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link IterationMetrics} count, for every caller supplied tag, how many traversals have been started,
+ * completed or abandoned, how many elements have been yielded and how long the traversals took, as
+ * measured by an {@link IterationClock}.
+ *
+ * <pre>
+ * {@code
+ * Iterator<Entry<Integer, Foo>> iterator = metrics.instrument("foos", new SparseArrayIterator<>(foos));
+ * while (iterator.hasNext()) {
+ *     if (isDone(iterator.next())) {
+ *         break;
+ *     }
+ * }
+ * IterationMetrics.close(iterator);
+ * }
+ * </pre>
+ *
+ * <p>All counters are lock free and striped across multiple cells to keep contention low. If
+ * {@link IterationMetrics} are disabled, {@link IterationMetrics#instrument(String, Iterator)} returns the
+ * given {@link Iterator} unchanged, such that the only overhead is a single volatile read.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class IterationMetrics {
+
+	private final ConcurrentMap<String, IterationCounters> counters = new ConcurrentHashMap<>();
+
+	private final IterationClock clock;
+
+	private volatile boolean enabled = true;
+
+	/**
+	 * Creates new {@link IterationMetrics} that use {@link IterationClock#SYSTEM}.
+	 */
+	public IterationMetrics() {
+		this(IterationClock.SYSTEM);
+	}
+
+	/**
+	 * Creates new {@link IterationMetrics}.
+	 *
+	 * @param clock The {@link IterationClock} to measure traversals with.
+	 * @throws IllegalArgumentException If the given {@link IterationClock} is {@literal null}.
+	 */
+	public IterationMetrics(IterationClock clock) throws IllegalArgumentException {
+		if (null == clock) {
+			throw new IllegalArgumentException("The given clock is null");
+		}
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns whether these {@link IterationMetrics} are enabled.
+	 *
+	 * @return Whether these {@link IterationMetrics} are enabled.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables these {@link IterationMetrics}. Traversals that have already been instrumented are
+	 * still recorded.
+	 *
+	 * @param enabled Whether these {@link IterationMetrics} are enabled.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Instruments a traversal of the given {@link Iterator}. The traversal is considered to be started
+	 * immediately.
+	 *
+	 * @param tag       The tag to record the traversal for.
+	 * @param iterator  The {@link Iterator} to instrument.
+	 * @param <Payload> The payload type.
+	 * @return An {@link InstrumentedIterator} or, if these {@link IterationMetrics} are disabled, the given
+	 * {@link Iterator}.
+	 * @throws IllegalArgumentException If the given tag or the given {@link Iterator} is {@literal null}.
+	 */
+	public <Payload> Iterator<Payload> instrument(String tag, Iterator<Payload> iterator)
+		throws IllegalArgumentException {
+		if (null == tag) {
+			throw new IllegalArgumentException("The given tag is null");
+		}
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		if (!enabled) {
+			return iterator;
+		}
+		return new InstrumentedIterator<>(iterator, getCounters(tag), clock);
+	}
+
+	private IterationCounters getCounters(String tag) {
+		IterationCounters tagCounters = counters.get(tag);
+		if (null == tagCounters) {
+			tagCounters = new IterationCounters(tag);
+			IterationCounters existingCounters = counters.putIfAbsent(tag, tagCounters);
+			if (null != existingCounters) {
+				tagCounters = existingCounters;
+			}
+		}
+		return tagCounters;
+	}
+
+	/**
+	 * Closes the given {@link Iterator}, if it is an {@link InstrumentedIterator}, such that an unfinished
+	 * traversal is recorded as abandoned.
+	 *
+	 * @param iterator The {@link Iterator} to close.
+	 */
+	public static void close(Iterator<?> iterator) {
+		if (iterator instanceof InstrumentedIterator) {
+			((InstrumentedIterator<?>) iterator).close();
+		}
+	}
+
+	/**
+	 * Returns the {@link IterationStatistics} for the given tag.
+	 *
+	 * @param tag The tag.
+	 * @return The {@link IterationStatistics} or {@literal null}, if no traversal has been recorded for the
+	 * given tag.
+	 * @throws IllegalArgumentException If the given tag is {@literal null}.
+	 */
+	public IterationStatistics snapshot(String tag) throws IllegalArgumentException {
+		if (null == tag) {
+			throw new IllegalArgumentException("The given tag is null");
+		}
+		IterationCounters tagCounters = counters.get(tag);
+		return null == tagCounters ? null : tagCounters.snapshot();
+	}
+
+	/**
+	 * Returns the {@link IterationStatistics} for all tags, for which a traversal has been recorded.
+	 *
+	 * @return The {@link IterationStatistics}.
+	 */
+	public List<IterationStatistics> snapshot() {
+		List<IterationStatistics> statistics = new ArrayList<>(counters.size());
+		for (IterationCounters tagCounters : counters.values()) {
+			statistics.add(tagCounters.snapshot());
+		}
+		return statistics;
+	}
+
+	/**
+	 * Removes all recorded traversals.
+	 */
+	public void clear() {
+		counters.clear();
+	}
+
+}
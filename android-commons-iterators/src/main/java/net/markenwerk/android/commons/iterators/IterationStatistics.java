@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+/**
+ * {@link IterationStatistics} are an immutable snapshot of the {@link IterationMetrics} for a single tag.
+ *
+ * <p>Because the underlying counters are updated concurrently and read one after another, a snapshot taken
+ * during ongoing traversals isn't necessarily consistent across counters.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class IterationStatistics {
+
+	private final String tag;
+
+	private final long startedCount;
+
+	private final long completedCount;
+
+	private final long abandonedCount;
+
+	private final long yieldedCount;
+
+	private final long totalTime;
+
+	private final long maximumTime;
+
+	IterationStatistics(String tag, long startedCount, long completedCount, long abandonedCount, long yieldedCount,
+						long totalTime, long maximumTime) {
+		this.tag = tag;
+		this.startedCount = startedCount;
+		this.completedCount = completedCount;
+		this.abandonedCount = abandonedCount;
+		this.yieldedCount = yieldedCount;
+		this.totalTime = totalTime;
+		this.maximumTime = maximumTime;
+	}
+
+	/**
+	 * Returns the tag.
+	 *
+	 * @return The tag.
+	 */
+	public String getTag() {
+		return tag;
+	}
+
+	/**
+	 * Returns the number of started traversals.
+	 *
+	 * @return The number of started traversals.
+	 */
+	public long getStartedCount() {
+		return startedCount;
+	}
+
+	/**
+	 * Returns the number of traversals that reached the end of the iterated elements.
+	 *
+	 * @return The number of completed traversals.
+	 */
+	public long getCompletedCount() {
+		return completedCount;
+	}
+
+	/**
+	 * Returns the number of traversals that have been closed before reaching the end of the iterated
+	 * elements.
+	 *
+	 * @return The number of abandoned traversals.
+	 */
+	public long getAbandonedCount() {
+		return abandonedCount;
+	}
+
+	/**
+	 * Returns the number of traversals that have neither been completed nor abandoned. This includes
+	 * ongoing traversals as well as traversals that have been abandoned without being closed.
+	 *
+	 * @return The number of unfinished traversals.
+	 */
+	public long getUnfinishedCount() {
+		return startedCount - completedCount - abandonedCount;
+	}
+
+	/**
+	 * Returns the number of elements yielded by completed and abandoned traversals.
+	 *
+	 * @return The number of yielded elements.
+	 */
+	public long getYieldedCount() {
+		return yieldedCount;
+	}
+
+	/**
+	 * Returns the accumulated time of all completed and abandoned traversals in nanoseconds.
+	 *
+	 * @return The total time.
+	 */
+	public long getTotalTime() {
+		return totalTime;
+	}
+
+	/**
+	 * Returns the longest time of a single completed or abandoned traversal in nanoseconds.
+	 *
+	 * @return The maximum time.
+	 */
+	public long getMaximumTime() {
+		return maximumTime;
+	}
+
+	/**
+	 * Returns the average time of all completed and abandoned traversals in nanoseconds.
+	 *
+	 * @return The average time or {@literal 0}, if no traversal has been completed or abandoned.
+	 */
+	public long getAverageTime() {
+		long finishedCount = completedCount + abandonedCount;
+		return 0 == finishedCount ? 0 : totalTime / finishedCount;
+	}
+
+	@Override
+	public String toString() {
+		return "IterationStatistics [tag=" + tag + ", started=" + startedCount + ", completed=" + completedCount
+			+ ", abandoned=" + abandonedCount + ", yielded=" + yieldedCount + ", totalTime=" + totalTime
+			+ ", maximumTime=" + maximumTime + "]";
+	}
+
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.LongSparseArray;
+import android.util.Pair;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+/**
+ * An {@link IteratorPool} is a small, thread confined pool of {@link SparseArrayIterator},
+ * {@link SparseIntegerArrayIterator}, {@link SparseLongArrayIterator}, {@link SparseBooleanArrayIterator},
+ * {@link LongSparseArrayIterator} and {@link PairIterator} instances.
+ *
+ * <pre>
+ * {@code
+ * IteratorPool pool = IteratorPool.get();
+ * SparseArrayIterator<Foo> iterator = pool.obtain(sparseArray);
+ * while (iterator.hasNext()) {
+ *     ...
+ * }
+ * pool.recycle(iterator);
+ * }
+ * </pre>
+ *
+ * <p>An iterator that is obtained from an {@link IteratorPool} and recycled after every traversal is
+ * reused by the next call to the corresponding {@literal obtain} method, such that repeated traversals
+ * don't create new iterators. A recycled iterator must not be used anymore. An {@link IteratorPool} holds
+ * at most {@link IteratorPool#CAPACITY} iterators of every type. Iterators that are recycled while the pool
+ * is full are discarded.
+ *
+ * <p>Pooling only saves the iterator itself. The sparse array iterators still create an
+ * {@link net.markenwerk.commons.datastructures.Entry} and box the key and, for primitive sparse arrays, the value
+ * for every yielded element. Traversals that must not allocate at all should use a {@link SparseArrayCursor} or
+ * a {@link LongSparseArrayCursor} instead.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+public final class IteratorPool {
+
+	/**
+	 * The maximum number of pooled iterators of every type.
+	 */
+	public static final int CAPACITY = 4;
+
+	private static final ThreadLocal<IteratorPool> POOLS = new ThreadLocal<IteratorPool>() {
+
+		@Override
+		protected IteratorPool initialValue() {
+			return new IteratorPool();
+		}
+
+	};
+
+	private final Stack<SparseArrayIterator<?>> sparseArrayIterators = new Stack<>();
+
+	private final Stack<SparseIntegerArrayIterator> sparseIntegerArrayIterators = new Stack<>();
+
+	private final Stack<SparseLongArrayIterator> sparseLongArrayIterators = new Stack<>();
+
+	private final Stack<SparseBooleanArrayIterator> sparseBooleanArrayIterators = new Stack<>();
+
+	private final Stack<LongSparseArrayIterator<?>> longSparseArrayIterators = new Stack<>();
+
+	private final Stack<PairIterator<?>> pairIterators = new Stack<>();
+
+	private IteratorPool() {
+	}
+
+	/**
+	 * Returns the {@link IteratorPool} of the current thread.
+	 *
+	 * @return The {@link IteratorPool} of the current thread.
+	 */
+	public static IteratorPool get() {
+		return POOLS.get();
+	}
+
+	/**
+	 * Obtains a {@link SparseArrayIterator} that iterates over the given {@link SparseArray}.
+	 *
+	 * @param array     The {@link SparseArray} to iterate over.
+	 * @param <Payload> The payload type.
+	 * @return The {@link SparseArrayIterator}.
+	 * @throws IllegalArgumentException If the given {@link SparseArray} is {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <Payload> SparseArrayIterator<Payload> obtain(SparseArray<? extends Payload> array)
+		throws IllegalArgumentException {
+		SparseArrayIterator<Payload> iterator = (SparseArrayIterator<Payload>) sparseArrayIterators.pop();
+		if (null == iterator) {
+			return new SparseArrayIterator<>(array);
+		}
+		iterator.reset(array);
+		return iterator;
+	}
+
+	/**
+	 * Obtains a {@link SparseIntegerArrayIterator} that iterates over the given {@link SparseIntArray}.
+	 *
+	 * @param array The {@link SparseIntArray} to iterate over.
+	 * @return The {@link SparseIntegerArrayIterator}.
+	 * @throws IllegalArgumentException If the given {@link SparseIntArray} is {@literal null}.
+	 */
+	public SparseIntegerArrayIterator obtain(SparseIntArray array) throws IllegalArgumentException {
+		SparseIntegerArrayIterator iterator = sparseIntegerArrayIterators.pop();
+		if (null == iterator) {
+			return new SparseIntegerArrayIterator(array);
+		}
+		iterator.reset(array);
+		return iterator;
+	}
+
+	/**
+	 * Obtains a {@link SparseLongArrayIterator} that iterates over the given {@link SparseLongArray}.
+	 *
+	 * @param array The {@link SparseLongArray} to iterate over.
+	 * @return The {@link SparseLongArrayIterator}.
+	 * @throws IllegalArgumentException If the given {@link SparseLongArray} is {@literal null}.
+	 */
+	public SparseLongArrayIterator obtain(SparseLongArray array) throws IllegalArgumentException {
+		SparseLongArrayIterator iterator = sparseLongArrayIterators.pop();
+		if (null == iterator) {
+			return new SparseLongArrayIterator(array);
+		}
+		iterator.reset(array);
+		return iterator;
+	}
+
+	/**
+	 * Obtains a {@link SparseBooleanArrayIterator} that iterates over the given {@link SparseBooleanArray}.
+	 *
+	 * @param array The {@link SparseBooleanArray} to iterate over.
+	 * @return The {@link SparseBooleanArrayIterator}.
+	 * @throws IllegalArgumentException If the given {@link SparseBooleanArray} is {@literal null}.
+	 */
+	public SparseBooleanArrayIterator obtain(SparseBooleanArray array) throws IllegalArgumentException {
+		SparseBooleanArrayIterator iterator = sparseBooleanArrayIterators.pop();
+		if (null == iterator) {
+			return new SparseBooleanArrayIterator(array);
+		}
+		iterator.reset(array);
+		return iterator;
+	}
+
+	/**
+	 * Obtains a {@link LongSparseArrayIterator} that iterates over the given {@link LongSparseArray}.
+	 *
+	 * @param array     The {@link LongSparseArray} to iterate over.
+	 * @param <Payload> The payload type.
+	 * @return The {@link LongSparseArrayIterator}.
+	 * @throws IllegalArgumentException If the given {@link LongSparseArray} is {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <Payload> LongSparseArrayIterator<Payload> obtain(LongSparseArray<? extends Payload> array)
+		throws IllegalArgumentException {
+		LongSparseArrayIterator<Payload> iterator = (LongSparseArrayIterator<Payload>) longSparseArrayIterators.pop();
+		if (null == iterator) {
+			return new LongSparseArrayIterator<>(array);
+		}
+		iterator.reset(array);
+		return iterator;
+	}
+
+	/**
+	 * Obtains a {@link PairIterator} that iterates over the given {@link Pair}.
+	 *
+	 * @param pair      The {@link Pair} to iterate over.
+	 * @param <Payload> The payload type.
+	 * @return The {@link PairIterator}.
+	 * @throws IllegalArgumentException If the given {@link Pair} is {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <Payload> PairIterator<Payload> obtain(Pair<? extends Payload, ? extends Payload> pair)
+		throws IllegalArgumentException {
+		PairIterator<Payload> iterator = (PairIterator<Payload>) pairIterators.pop();
+		if (null == iterator) {
+			return new PairIterator<>(pair);
+		}
+		iterator.reset(pair);
+		return iterator;
+	}
+
+	/**
+	 * Recycles the given {@link SparseArrayIterator}.
+	 *
+	 * @param iterator The {@link SparseArrayIterator} to recycle.
+	 * @throws IllegalArgumentException If the given {@link SparseArrayIterator} is {@literal null}.
+	 */
+	public void recycle(SparseArrayIterator<?> iterator) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		iterator.release();
+		sparseArrayIterators.push(iterator);
+	}
+
+	/**
+	 * Recycles the given {@link SparseIntegerArrayIterator}.
+	 *
+	 * @param iterator The {@link SparseIntegerArrayIterator} to recycle.
+	 * @throws IllegalArgumentException If the given {@link SparseIntegerArrayIterator} is {@literal null}.
+	 */
+	public void recycle(SparseIntegerArrayIterator iterator) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		iterator.release();
+		sparseIntegerArrayIterators.push(iterator);
+	}
+
+	/**
+	 * Recycles the given {@link SparseLongArrayIterator}.
+	 *
+	 * @param iterator The {@link SparseLongArrayIterator} to recycle.
+	 * @throws IllegalArgumentException If the given {@link SparseLongArrayIterator} is {@literal null}.
+	 */
+	public void recycle(SparseLongArrayIterator iterator) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		iterator.release();
+		sparseLongArrayIterators.push(iterator);
+	}
+
+	/**
+	 * Recycles the given {@link SparseBooleanArrayIterator}.
+	 *
+	 * @param iterator The {@link SparseBooleanArrayIterator} to recycle.
+	 * @throws IllegalArgumentException If the given {@link SparseBooleanArrayIterator} is {@literal null}.
+	 */
+	public void recycle(SparseBooleanArrayIterator iterator) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		iterator.release();
+		sparseBooleanArrayIterators.push(iterator);
+	}
+
+	/**
+	 * Recycles the given {@link LongSparseArrayIterator}.
+	 *
+	 * @param iterator The {@link LongSparseArrayIterator} to recycle.
+	 * @throws IllegalArgumentException If the given {@link LongSparseArrayIterator} is {@literal null}.
+	 */
+	public void recycle(LongSparseArrayIterator<?> iterator) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		iterator.release();
+		longSparseArrayIterators.push(iterator);
+	}
+
+	/**
+	 * Recycles the given {@link PairIterator}.
+	 *
+	 * @param iterator The {@link PairIterator} to recycle.
+	 * @throws IllegalArgumentException If the given {@link PairIterator} is {@literal null}.
+	 */
+	public void recycle(PairIterator<?> iterator) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		iterator.release();
+		pairIterators.push(iterator);
+	}
+
+	private static final class Stack<Item> {
+
+		private final Object[] items = new Object[CAPACITY];
+
+		private int size;
+
+		public void push(Item item) {
+			if (size < CAPACITY && !contains(item)) {
+				items[size++] = item;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		public Item pop() {
+			if (0 == size) {
+				return null;
+			}
+			Item item = (Item) items[--size];
+			items[size] = null;
+			return item;
+		}
+
+		private boolean contains(Item item) {
+			for (int i = 0; i < size; i++) {
+				if (items[i] == item) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+}
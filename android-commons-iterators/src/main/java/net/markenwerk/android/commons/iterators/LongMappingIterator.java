@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link LongMappingIterator} is a {@link LongIterator} that maps the values yielded by a given {@link LongIterator}
+ * with a given {@link LongMapper}, such that several mapping stages can be chained without boxing the values passed
+ * between them.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class LongMappingIterator implements LongIterator {
+
+	private final LongIterator iterator;
+
+	private final LongMapper mapper;
+
+	/**
+	 * Creates a new {@link LongMappingIterator}.
+	 *
+	 * @param iterator The {@link LongIterator} to map the values of.
+	 * @param mapper   The {@link LongMapper} to be used.
+	 * @throws IllegalArgumentException If the given {@link LongIterator} or the given {@link LongMapper} is
+	 *                                  {@literal null}.
+	 */
+	public LongMappingIterator(LongIterator iterator, LongMapper mapper) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		if (null == mapper) {
+			throw new IllegalArgumentException("The given mapper is null");
+		}
+		this.iterator = iterator;
+		this.mapper = mapper;
+	}
+
+	public boolean hasNext() {
+		return iterator.hasNext();
+	}
+
+	public long nextLong() throws NoSuchElementException {
+		return mapper.map(iterator.nextLong());
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import net.markenwerk.commons.iterators.AbstractProtectedIterator;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link LongSet} is a read only, ordered set of primitive {@literal long} values, that is backed by an
+ * underlying data structure with values in ascending order.
+ *
+ * <p>{@link LongSet#contains(long)} takes {@literal O(log n)} time and {@link LongSet#getLong(int)} takes
+ * {@literal O(1)} time. {@link LongSet#longIterator()} doesn't box the yielded values. The implementation of
+ * {@link java.util.Set} is a compatibility layer, that boxes all values.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public abstract class LongSet extends AbstractSet<Long> {
+
+	/**
+	 * Returns the value with the given index in ascending order.
+	 *
+	 * @param index The index.
+	 * @return The value.
+	 * @throws IndexOutOfBoundsException If the given index is out of range.
+	 */
+	public final long getLong(int index) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("The given index is out of range: " + index);
+		}
+		return valueAt(index);
+	}
+
+	/**
+	 * Returns the value with the given index, which is known to be in range, in ascending order.
+	 *
+	 * @param index The index.
+	 * @return The value.
+	 */
+	protected abstract long valueAt(int index);
+
+	/**
+	 * Returns whether this {@link LongSet} contains the given value.
+	 *
+	 * @param value The value.
+	 * @return Whether this {@link LongSet} contains the given value.
+	 */
+	public final boolean contains(long value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * Returns the index of the given value in ascending order.
+	 *
+	 * @param value The value.
+	 * @return The index or {@literal -1}, if this {@link LongSet} doesn't contain the given value.
+	 */
+	public final int indexOf(long value) {
+		int low = 0;
+		int high = size() - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			long current = valueAt(middle);
+			if (current < value) {
+				low = middle + 1;
+			} else if (current > value) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public final boolean contains(Object object) {
+		return object instanceof Long && contains(((Long) object).longValue());
+	}
+
+	/**
+	 * Returns a {@link LongIterator} over all values in ascending order.
+	 *
+	 * @return The {@link LongIterator}.
+	 */
+	public final LongIterator longIterator() {
+		return new LongIterator() {
+
+			private int index;
+
+			public boolean hasNext() {
+				return index < size();
+			}
+
+			public long nextLong() throws NoSuchElementException {
+				if (!hasNext()) {
+					throw new NoSuchElementException("This iterator has no next element");
+				}
+				return valueAt(index++);
+			}
+
+		};
+	}
+
+	@Override
+	public final Iterator<Long> iterator() {
+		return new AbstractProtectedIterator<Long>() {
+
+			private int index;
+
+			public boolean hasNext() {
+				return index < size();
+			}
+
+			public Long next() throws NoSuchElementException {
+				if (!hasNext()) {
+					throw new NoSuchElementException("This iterator has no next element");
+				}
+				return valueAt(index++);
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a new array that contains all values in ascending order.
+	 *
+	 * @return The array.
+	 */
+	public final long[] toLongArray() {
+		long[] values = new long[size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = valueAt(i);
+		}
+		return values;
+	}
+
+}
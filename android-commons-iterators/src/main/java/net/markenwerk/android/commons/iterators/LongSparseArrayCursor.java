@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.util.LongSparseArray;
+
+/**
+ * A {@link LongSparseArrayCursor} is an allocation free cursor over some or all elements of a {@link LongSparseArray}.
+ *
+ * <p>A {@link LongSparseArrayCursor} is positioned before the first selected element upon creation and must be moved
+ * with {@link LongSparseArrayCursor#moveToNext()} before the current element can be accessed.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public interface LongSparseArrayCursor<Payload> extends ValueCursor<Payload> {
+
+	/**
+	 * Returns the key of the current element.
+	 *
+	 * @return The key of the current element.
+	 * @throws IllegalStateException If this {@link LongSparseArrayCursor} isn't positioned on an element.
+	 */
+	long getKey() throws IllegalStateException;
+
+}
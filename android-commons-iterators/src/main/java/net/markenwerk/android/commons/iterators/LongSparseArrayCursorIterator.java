@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import net.markenwerk.commons.datastructures.Entry;
+import net.markenwerk.commons.iterators.AbstractProtectedIterator;
+
+import java.util.NoSuchElementException;
+
+
+/**
+ * A {@link LongSparseArrayCursorIterator} is an {@link AbstractProtectedIterator} that iterates over the elements
+ * selected by a given {@link LongSparseArrayCursor}.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class LongSparseArrayCursorIterator<Payload> extends AbstractProtectedIterator<Entry<Long, Payload>> {
+
+	private final LongSparseArrayCursor<? extends Payload> cursor;
+
+	private boolean nextChecked;
+
+	private boolean hasNext;
+
+	/**
+	 * Creates a new {@link LongSparseArrayCursorIterator}.
+	 *
+	 * @param cursor The {@link LongSparseArrayCursor} to iterate with.
+	 * @throws IllegalArgumentException If the given {@link LongSparseArrayCursor} is {@literal null}.
+	 */
+	public LongSparseArrayCursorIterator(LongSparseArrayCursor<? extends Payload> cursor) throws IllegalArgumentException {
+		if (null == cursor) {
+			throw new IllegalArgumentException("The given cursor is null");
+		}
+		this.cursor = cursor;
+	}
+
+	public boolean hasNext() {
+		if (!nextChecked) {
+			hasNext = cursor.moveToNext();
+			nextChecked = true;
+		}
+		return hasNext;
+	}
+
+	public Entry<Long, Payload> next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		}
+		nextChecked = false;
+		return new Entry<>(cursor.getKey(), cursor.getValue());
+	}
+
+}
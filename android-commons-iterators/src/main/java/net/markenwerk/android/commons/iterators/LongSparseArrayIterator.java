@@ -42,7 +42,7 @@ import java.util.NoSuchElementException;
 @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
 public final class LongSparseArrayIterator<Payload> extends AbstractProtectedIterator<Entry<Long, Payload>> {
 
-	private final LongSparseArray<? extends Payload> array;
+	private LongSparseArray<? extends Payload> array;
 
 	private int index;
 
@@ -59,6 +59,25 @@ public final class LongSparseArrayIterator<Payload> extends AbstractProtectedIte
 		this.array = array;
 	}
 
+	/**
+	 * Resets this {@link LongSparseArrayIterator}, such that it iterates over the given {@link LongSparseArray}.
+	 *
+	 * @param array The {@link LongSparseArray} to iterate over.
+	 * @throws IllegalArgumentException If the given {@link LongSparseArray} is {@literal null}.
+	 */
+	public void reset(LongSparseArray<? extends Payload> array) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		this.array = array;
+		this.index = 0;
+	}
+
+	void release() {
+		this.array = null;
+		this.index = 0;
+	}
+
 	public boolean hasNext() {
 		return index < array.size();
 	}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.LongSparseArray;
+
+/**
+ * A {@link LongSparseArrayKeySet} is a live {@link LongSet} view on the keys of a given {@link LongSparseArray}.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+public final class LongSparseArrayKeySet extends LongSet {
+
+	private final LongSparseArray<?> array;
+
+	/**
+	 * Creates a new {@link LongSparseArrayKeySet}.
+	 *
+	 * @param array The {@link LongSparseArray} to view the keys of.
+	 * @throws IllegalArgumentException If the given {@link LongSparseArray} is {@literal null}.
+	 */
+	public LongSparseArrayKeySet(LongSparseArray<?> array) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		this.array = array;
+	}
+
+	@Override
+	public int size() {
+		return array.size();
+	}
+
+	@Override
+	protected long valueAt(int index) {
+		return array.keyAt(index);
+	}
+
+}
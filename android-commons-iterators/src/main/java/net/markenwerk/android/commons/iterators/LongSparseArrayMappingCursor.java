@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+/**
+ * A {@link LongSparseArrayMappingCursor} is a {@link LongSparseArrayCursor} that maps the values of the elements
+ * selected by a given {@link LongSparseArrayCursor} with a given {@link ValueMapper}.
+ *
+ * <p>A value is mapped lazily, when it is first accessed, and at most once per element. Keys and indices are
+ * passed through unchanged.
+ *
+ * @param <From> The type of the values to be mapped.
+ * @param <To>   The type of the mapped values.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class LongSparseArrayMappingCursor<From, To> implements LongSparseArrayCursor<To> {
+
+	private final LongSparseArrayCursor<? extends From> cursor;
+
+	private final ValueMapper<? super From, ? extends To> mapper;
+
+	private boolean mapped;
+
+	private To value;
+
+	/**
+	 * Creates a new {@link LongSparseArrayMappingCursor}.
+	 *
+	 * @param cursor The {@link LongSparseArrayCursor} to map the values of.
+	 * @param mapper The {@link ValueMapper} to be used.
+	 * @throws IllegalArgumentException If the given {@link LongSparseArrayCursor} or the given {@link ValueMapper} is
+	 *                                  {@literal null}.
+	 */
+	public LongSparseArrayMappingCursor(LongSparseArrayCursor<? extends From> cursor, ValueMapper<? super From, ? extends To> mapper) throws IllegalArgumentException {
+		if (null == cursor) {
+			throw new IllegalArgumentException("The given cursor is null");
+		}
+		if (null == mapper) {
+			throw new IllegalArgumentException("The given mapper is null");
+		}
+		this.cursor = cursor;
+		this.mapper = mapper;
+	}
+
+	public boolean moveToNext() {
+		mapped = false;
+		value = null;
+		return cursor.moveToNext();
+	}
+
+	public int getIndex() throws IllegalStateException {
+		return cursor.getIndex();
+	}
+
+	public long getKey() throws IllegalStateException {
+		return cursor.getKey();
+	}
+
+	public To getValue() throws IllegalStateException {
+		if (!mapped) {
+			value = mapper.map(cursor.getValue());
+			mapped = true;
+		}
+		return value;
+	}
+
+}
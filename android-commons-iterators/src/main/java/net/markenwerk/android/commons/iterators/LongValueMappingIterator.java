@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import net.markenwerk.commons.iterators.AbstractProtectedIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link LongValueMappingIterator} is an {@link AbstractProtectedIterator} that maps the values yielded by a given
+ * {@link LongIterator} with a given {@link LongValueMapper}, without boxing the values to be mapped.
+ *
+ * @param <To> The type of the mapped values.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class LongValueMappingIterator<To> extends AbstractProtectedIterator<To> {
+
+	private final LongIterator iterator;
+
+	private final LongValueMapper<? extends To> mapper;
+
+	/**
+	 * Creates a new {@link LongValueMappingIterator}.
+	 *
+	 * @param iterator The {@link LongIterator} to map the values of.
+	 * @param mapper   The {@link LongValueMapper} to be used.
+	 * @throws IllegalArgumentException If the given {@link LongIterator} or the given {@link LongValueMapper} is
+	 *                                  {@literal null}.
+	 */
+	public LongValueMappingIterator(LongIterator iterator, LongValueMapper<? extends To> mapper) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		if (null == mapper) {
+			throw new IllegalArgumentException("The given mapper is null");
+		}
+		this.iterator = iterator;
+		this.mapper = mapper;
+	}
+
+	public boolean hasNext() {
+		return iterator.hasNext();
+	}
+
+	public To next() throws NoSuchElementException {
+		return mapper.map(iterator.nextLong());
+	}
+
+}
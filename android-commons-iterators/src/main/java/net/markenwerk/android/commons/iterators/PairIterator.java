@@ -39,7 +39,7 @@ import java.util.NoSuchElementException;
  */
 public final class PairIterator<Payload> extends AbstractProtectedIterator<Payload> {
 
-	private final Pair<? extends Payload, ? extends Payload> pair;
+	private Pair<? extends Payload, ? extends Payload> pair;
 
 	private int index;
 
@@ -57,6 +57,25 @@ public final class PairIterator<Payload> extends AbstractProtectedIterator<Paylo
 		this.pair = pair;
 	}
 
+	/**
+	 * Resets this {@link PairIterator}, such that it iterates over the given {@link Pair}.
+	 *
+	 * @param pair The {@link Pair} to iterate over.
+	 * @throws IllegalArgumentException If the given {@link Pair} is {@literal null}.
+	 */
+	public void reset(Pair<? extends Payload, ? extends Payload> pair) throws IllegalArgumentException {
+		if (null == pair) {
+			throw new IllegalArgumentException("The given pair is null");
+		}
+		this.pair = pair;
+		this.index = 0;
+	}
+
+	void release() {
+		this.pair = null;
+		this.index = 0;
+	}
+
 	public boolean hasNext() {
 		return index < 2;
 	}
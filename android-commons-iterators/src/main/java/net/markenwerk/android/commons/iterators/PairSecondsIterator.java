@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.markenwerk.android.commons.iterators;
+
+import android.util.Pair;
+
+import net.markenwerk.commons.iterators.AbstractProtectedIterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * A {@link PairSecondsIterator} is an {@link AbstractProtectedIterator} that iterates over the second component of every
+ * {@link Pair} in a given sequence of {@link Pair Pairs}. A {@literal null} pair is treated as a pair of
+ * {@literal null} components.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class PairSecondsIterator<Payload> extends AbstractProtectedIterator<Payload> {
+
+	private final Pair<?, ? extends Payload>[] pairArray;
+
+	private final Iterator<? extends Pair<?, ? extends Payload>> pairIterator;
+
+	private int position;
+
+	/**
+	 * Creates a new {@link PairSecondsIterator}.
+	 *
+	 * @param pairs The {@link Pair Pairs} to iterate over.
+	 * @throws IllegalArgumentException If the given array of {@link Pair Pairs} is {@literal null}.
+	 */
+	public PairSecondsIterator(Pair<?, ? extends Payload>[] pairs) throws IllegalArgumentException {
+		if (null == pairs) {
+			throw new IllegalArgumentException("The given pairs are null");
+		}
+		this.pairArray = pairs;
+		this.pairIterator = null;
+	}
+
+	/**
+	 * Creates a new {@link PairSecondsIterator}.
+	 *
+	 * @param pairs The {@link Pair Pairs} to iterate over.
+	 * @throws IllegalArgumentException If the given {@link Iterable} of {@link Pair Pairs} is {@literal null}.
+	 */
+	public PairSecondsIterator(Iterable<? extends Pair<?, ? extends Payload>> pairs) throws IllegalArgumentException {
+		if (null == pairs) {
+			throw new IllegalArgumentException("The given pairs are null");
+		}
+		this.pairArray = null;
+		this.pairIterator = pairs.iterator();
+	}
+
+	public boolean hasNext() {
+		return null == pairArray ? pairIterator.hasNext() : position < pairArray.length;
+	}
+
+	public Payload next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		}
+		Pair<?, ? extends Payload> pair = nextPair();
+		return null == pair ? null : pair.second;
+	}
+
+	/**
+	 * Writes the next elements into the given buffer.
+	 *
+	 * @param buffer The buffer to write into.
+	 * @param offset The index of the first element in the buffer to write.
+	 * @param length The maximum number of elements to write.
+	 * @return The number of elements written, which is only less than the given length, if this
+	 * {@link PairSecondsIterator} has no next element afterwards.
+	 * @throws IllegalArgumentException  If the given buffer is {@literal null}.
+	 * @throws IndexOutOfBoundsException If the given offset or length doesn't denote a range inside the
+	 *                                   given buffer.
+	 */
+	public int next(Payload[] buffer, int offset, int length) throws IllegalArgumentException, IndexOutOfBoundsException {
+		if (null == buffer) {
+			throw new IllegalArgumentException("The given buffer is null");
+		}
+		if (offset < 0 || length < 0 || length > buffer.length - offset) {
+			throw new IndexOutOfBoundsException("The given range is outside of the given buffer");
+		}
+		int count = 0;
+		while (count < length && hasNext()) {
+			Pair<?, ? extends Payload> pair = nextPair();
+			buffer[offset + count++] = null == pair ? null : pair.second;
+		}
+		return count;
+	}
+
+	private Pair<?, ? extends Payload> nextPair() {
+		return null == pairArray ? pairIterator.next() : pairArray[position++];
+	}
+
+}
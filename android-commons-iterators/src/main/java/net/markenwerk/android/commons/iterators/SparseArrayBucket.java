@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+/**
+ * A {@link SparseArrayBucket} is the reusable view on a single bucket of a {@link SparseArrayBucketIterator}, that
+ * yields the key range of the bucket, the contiguous range of indices of the elements in the bucket and, for
+ * {@link SparseIntArray}, {@link SparseLongArray} and {@link SparseBooleanArray}, an aggregate of the values of
+ * these elements.
+ *
+ * <p>A {@link SparseArrayBucket} is only valid until the next call to {@link SparseArrayBucketIterator#next()}.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+public final class SparseArrayBucket {
+
+	private final boolean numeric;
+
+	private long lowerBound;
+
+	private long upperBound;
+
+	private int startIndex;
+
+	private int endIndex;
+
+	private long sum;
+
+	private long minimum;
+
+	private long maximum;
+
+	SparseArrayBucket(boolean numeric) {
+		this.numeric = numeric;
+	}
+
+	void set(long lowerBound, long upperBound, int startIndex, int endIndex, long sum, long minimum, long maximum) {
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+		this.startIndex = startIndex;
+		this.endIndex = endIndex;
+		this.sum = sum;
+		this.minimum = minimum;
+		this.maximum = maximum;
+	}
+
+	/**
+	 * Returns the smallest key that belongs to this {@link SparseArrayBucket}.
+	 *
+	 * @return The smallest key that belongs to this {@link SparseArrayBucket}.
+	 */
+	public long getLowerBound() {
+		return lowerBound;
+	}
+
+	/**
+	 * Returns the largest key that belongs to this {@link SparseArrayBucket}.
+	 *
+	 * @return The largest key that belongs to this {@link SparseArrayBucket}.
+	 */
+	public long getUpperBound() {
+		return upperBound;
+	}
+
+	/**
+	 * Returns the index of the first element in this {@link SparseArrayBucket}.
+	 *
+	 * @return The index of the first element.
+	 */
+	public int getStartIndex() {
+		return startIndex;
+	}
+
+	/**
+	 * Returns the index after the last element in this {@link SparseArrayBucket}.
+	 *
+	 * @return The index after the last element.
+	 */
+	public int getEndIndex() {
+		return endIndex;
+	}
+
+	/**
+	 * Returns the number of elements in this {@link SparseArrayBucket}, which is never {@literal 0}.
+	 *
+	 * @return The number of elements.
+	 */
+	public int getCount() {
+		return endIndex - startIndex;
+	}
+
+	/**
+	 * Returns whether this {@link SparseArrayBucket} has an aggregate of the values of its elements.
+	 *
+	 * @return Whether this {@link SparseArrayBucket} has an aggregate.
+	 */
+	public boolean hasAggregate() {
+		return numeric;
+	}
+
+	/**
+	 * Returns the sum of the values of the elements in this {@link SparseArrayBucket}. Boolean values count as
+	 * {@literal 0} or {@literal 1}. The sum wraps around on overflow.
+	 *
+	 * @return The sum of the values.
+	 * @throws IllegalStateException If this {@link SparseArrayBucket} has no aggregate.
+	 */
+	public long getSum() throws IllegalStateException {
+		checkAggregate();
+		return sum;
+	}
+
+	/**
+	 * Returns the smallest value of the elements in this {@link SparseArrayBucket}.
+	 *
+	 * @return The smallest value.
+	 * @throws IllegalStateException If this {@link SparseArrayBucket} has no aggregate.
+	 */
+	public long getMinimum() throws IllegalStateException {
+		checkAggregate();
+		return minimum;
+	}
+
+	/**
+	 * Returns the largest value of the elements in this {@link SparseArrayBucket}.
+	 *
+	 * @return The largest value.
+	 * @throws IllegalStateException If this {@link SparseArrayBucket} has no aggregate.
+	 */
+	public long getMaximum() throws IllegalStateException {
+		checkAggregate();
+		return maximum;
+	}
+
+	/**
+	 * Returns the average value of the elements in this {@link SparseArrayBucket}. The average is derived from
+	 * {@link SparseArrayBucket#getSum()} and is therefore wrong if the sum has wrapped around.
+	 *
+	 * @return The average value.
+	 * @throws IllegalStateException If this {@link SparseArrayBucket} has no aggregate.
+	 */
+	public double getAverage() throws IllegalStateException {
+		checkAggregate();
+		return (double) sum / getCount();
+	}
+
+	private void checkAggregate() throws IllegalStateException {
+		if (!numeric) {
+			throw new IllegalStateException("This bucket has no aggregate");
+		}
+	}
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+import net.markenwerk.commons.iterators.AbstractProtectedIterator;
+
+import java.util.NoSuchElementException;
+
+
+/**
+ * A {@link SparseArrayBucketIterator} is an {@link AbstractProtectedIterator} that groups the elements of a given
+ * sparse array into buckets of equally wide key ranges and yields a {@link SparseArrayBucket} for every non-empty
+ * bucket in ascending key order.
+ *
+ * <p>The bucket of a key {@literal k} starts at {@literal origin + floor((k - origin) / width) * width}, e.g. a
+ * width of {@literal 60000} groups a {@link LongSparseArray} keyed by epoch millis into minutes. Integer keys are
+ * widened to long keys. For {@link SparseIntArray}, {@link SparseLongArray} and {@link SparseBooleanArray}, the
+ * count, sum, minimum and maximum of the values in every bucket are aggregated. Bucket bounds are clamped to the
+ * range of long keys, whereas the sum of the values wraps around on overflow, as it would for a plain
+ * {@literal long} addition.
+ *
+ * <p>Because the keys of a sparse array are sorted, the elements of every bucket occupy a contiguous range of
+ * indices and every element is visited exactly once, which yields a total running time of {@literal O(n)}. The
+ * same {@link SparseArrayBucket} is returned for every call to {@link SparseArrayBucketIterator#next()}, so that no
+ * allocation happens after construction.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+public final class SparseArrayBucketIterator extends AbstractProtectedIterator<SparseArrayBucket> {
+
+	private final SparseArrayColumn column;
+
+	private final long origin;
+
+	private final long width;
+
+	private final SparseArrayBucket bucket;
+
+	private int index;
+
+	/**
+	 * Creates a new {@link SparseArrayBucketIterator} with buckets that are aligned to key {@literal 0}.
+	 *
+	 * @param array The {@link SparseArray} to iterate over.
+	 * @param width The width of the key range of every bucket.
+	 * @throws IllegalArgumentException If the given {@link SparseArray} is {@literal null} or if the given width is
+	 *                                  less than {@literal 1}.
+	 */
+	public SparseArrayBucketIterator(SparseArray<?> array, long width) throws IllegalArgumentException {
+		this((Object) array, 0, width);
+	}
+
+	/**
+	 * Creates a new {@link SparseArrayBucketIterator}.
+	 *
+	 * @param array  The {@link SparseArray} to iterate over.
+	 * @param origin A key at which a bucket starts.
+	 * @param width  The width of the key range of every bucket.
+	 * @throws IllegalArgumentException If the given {@link SparseArray} is {@literal null} or if the given width is
+	 *                                  less than {@literal 1}.
+	 */
+	public SparseArrayBucketIterator(SparseArray<?> array, long origin, long width) throws IllegalArgumentException {
+		this((Object) array, origin, width);
+	}
+
+	/**
+	 * Creates a new {@link SparseArrayBucketIterator} with buckets that are aligned to key {@literal 0}.
+	 *
+	 * @param array The {@link LongSparseArray} to iterate over.
+	 * @param width The width of the key range of every bucket.
+	 * @throws IllegalArgumentException If the given {@link LongSparseArray} is {@literal null} or if the given width
+	 *                                  is less than {@literal 1}.
+	 */
+	public SparseArrayBucketIterator(LongSparseArray<?> array, long width) throws IllegalArgumentException {
+		this((Object) array, 0, width);
+	}
+
+	/**
+	 * Creates a new {@link SparseArrayBucketIterator}.
+	 *
+	 * @param array  The {@link LongSparseArray} to iterate over.
+	 * @param origin A key at which a bucket starts.
+	 * @param width  The width of the key range of every bucket.
+	 * @throws IllegalArgumentException If the given {@link LongSparseArray} is {@literal null} or if the given width
+	 *                                  is less than {@literal 1}.
+	 */
+	public SparseArrayBucketIterator(LongSparseArray<?> array, long origin, long width) throws IllegalArgumentException {
+		this((Object) array, origin, width);
+	}
+
+	/**
+	 * Creates a new {@link SparseArrayBucketIterator} with buckets that are aligned to key {@literal 0}.
+	 *
+	 * @param array The {@link SparseIntArray} to iterate over.
+	 * @param width The width of the key range of every bucket.
+	 * @throws IllegalArgumentException If the given {@link SparseIntArray} is {@literal null} or if the given width
+	 *                                  is less than {@literal 1}.
+	 */
+	public SparseArrayBucketIterator(SparseIntArray array, long width) throws IllegalArgumentException {
+		this((Object) array, 0, width);
+	}
+
+	/**
+	 * Creates a new {@link SparseArrayBucketIterator}.
+	 *
+	 * @param array  The {@link SparseIntArray} to iterate over.
+	 * @param origin A key at which a bucket starts.
+	 * @param width  The width of the key range of every bucket.
+	 * @throws IllegalArgumentException If the given {@link SparseIntArray} is {@literal null} or if the given width
+	 *                                  is less than {@literal 1}.
+	 */
+	public SparseArrayBucketIterator(SparseIntArray array, long origin, long width) throws IllegalArgumentException {
+		this((Object) array, origin, width);
+	}
+
+	/**
+	 * Creates a new {@link SparseArrayBucketIterator} with buckets that are aligned to key {@literal 0}.
+	 *
+	 * @param array The {@link SparseLongArray} to iterate over.
+	 * @param width The width of the key range of every bucket.
+	 * @throws IllegalArgumentException If the given {@link SparseLongArray} is {@literal null} or if the given width
+	 *                                  is less than {@literal 1}.
+	 */
+	public SparseArrayBucketIterator(SparseLongArray array, long width) throws IllegalArgumentException {
+		this((Object) array, 0, width);
+	}
+
+	/**
+	 * Creates a new {@link SparseArrayBucketIterator}.
+	 *
+	 * @param array  The {@link SparseLongArray} to iterate over.
+	 * @param origin A key at which a bucket starts.
+	 * @param width  The width of the key range of every bucket.
+	 * @throws IllegalArgumentException If the given {@link SparseLongArray} is {@literal null} or if the given width
+	 *                                  is less than {@literal 1}.
+	 */
+	public SparseArrayBucketIterator(SparseLongArray array, long origin, long width) throws IllegalArgumentException {
+		this((Object) array, origin, width);
+	}
+
+	/**
+	 * Creates a new {@link SparseArrayBucketIterator} with buckets that are aligned to key {@literal 0}.
+	 *
+	 * @param array The {@link SparseBooleanArray} to iterate over.
+	 * @param width The width of the key range of every bucket.
+	 * @throws IllegalArgumentException If the given {@link SparseBooleanArray} is {@literal null} or if the given
+	 *                                  width is less than {@literal 1}.
+	 */
+	public SparseArrayBucketIterator(SparseBooleanArray array, long width) throws IllegalArgumentException {
+		this((Object) array, 0, width);
+	}
+
+	/**
+	 * Creates a new {@link SparseArrayBucketIterator}.
+	 *
+	 * @param array  The {@link SparseBooleanArray} to iterate over.
+	 * @param origin A key at which a bucket starts.
+	 * @param width  The width of the key range of every bucket.
+	 * @throws IllegalArgumentException If the given {@link SparseBooleanArray} is {@literal null} or if the given
+	 *                                  width is less than {@literal 1}.
+	 */
+	public SparseArrayBucketIterator(SparseBooleanArray array, long origin, long width) throws IllegalArgumentException {
+		this((Object) array, origin, width);
+	}
+
+	private SparseArrayBucketIterator(Object array, long origin, long width) throws IllegalArgumentException {
+		if (width < 1) {
+			throw new IllegalArgumentException("The given width is less than 1");
+		}
+		this.column = SparseArrayColumn.create(array);
+		this.origin = origin;
+		this.width = width;
+		this.bucket = new SparseArrayBucket(column.isNumeric());
+	}
+
+	public boolean hasNext() {
+		return index < column.size();
+	}
+
+	public SparseArrayBucket next() throws NoSuchElementException {
+		int size = column.size();
+		if (index >= size) {
+			throw new NoSuchElementException("This iterator has no next element");
+		}
+		long key = column.keyAt(index);
+		long remainder = floorMod(floorMod(key, width) - floorMod(origin, width), width);
+		long lowerBound = key < Long.MIN_VALUE + remainder ? Long.MIN_VALUE : key - remainder;
+		long upperBound = key > Long.MAX_VALUE - (width - 1 - remainder) ? Long.MAX_VALUE : key + (width - 1 - remainder);
+		int startIndex = index;
+		if (column.isNumeric()) {
+			long sum = 0;
+			long minimum = Long.MAX_VALUE;
+			long maximum = Long.MIN_VALUE;
+			do {
+				long value = column.numericValueAt(index);
+				sum += value;
+				minimum = value < minimum ? value : minimum;
+				maximum = value > maximum ? value : maximum;
+			} while (++index < size && column.keyAt(index) <= upperBound);
+			bucket.set(lowerBound, upperBound, startIndex, index, sum, minimum, maximum);
+		} else {
+			do {
+				index++;
+			} while (index < size && column.keyAt(index) <= upperBound);
+			bucket.set(lowerBound, upperBound, startIndex, index, 0, 0, 0);
+		}
+		return bucket;
+	}
+
+	private static long floorMod(long dividend, long divisor) {
+		long remainder = dividend % divisor;
+		return remainder < 0 ? remainder + divisor : remainder;
+	}
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.SparseArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link SparseArrayChainCursor} is a {@link SparseArrayCursor} that moves over all elements of an ordered list of
+ * {@link SparseArray} shards, that cover disjoint, ascending key ranges. The position of a
+ * {@link SparseArrayChainCursor} is a single pair of a shard index and an index inside that shard.
+ *
+ * <p>{@link SparseArrayChainCursor#seek(int)} moves to a key in {@literal O(log s + log n)} time for
+ * {@literal s} shards with {@literal n} elements each, as long as most shards are not empty.
+ * {@link SparseArrayChainCursor#trySplit()} splits off a prefix of the remaining shards along shard boundaries,
+ * like {@literal java.util.Spliterator#trySplit()}, which isn't available on older API levels.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+public final class SparseArrayChainCursor<Payload> implements SparseArrayCursor<Payload> {
+
+	private final List<SparseArray<? extends Payload>> shards;
+
+	private final int end;
+
+	private int start;
+
+	private int shard;
+
+	private int index;
+
+	/**
+	 * Creates a new {@link SparseArrayChainCursor}.
+	 *
+	 * @param shards The {@link SparseArray} shards to move over, ordered by key range.
+	 * @throws IllegalArgumentException If the given list of shards is {@literal null} or contains
+	 *                                  {@literal null}.
+	 */
+	public SparseArrayChainCursor(List<? extends SparseArray<? extends Payload>> shards) throws IllegalArgumentException {
+		if (null == shards) {
+			throw new IllegalArgumentException("The given shards are null");
+		}
+		this.shards = new ArrayList<SparseArray<? extends Payload>>(shards);
+		for (SparseArray<? extends Payload> array : this.shards) {
+			if (null == array) {
+				throw new IllegalArgumentException("The given shards contain null");
+			}
+		}
+		this.start = 0;
+		this.end = this.shards.size();
+		this.index = -1;
+	}
+
+	private SparseArrayChainCursor(List<SparseArray<? extends Payload>> shards, int start, int end, int shard, int index) {
+		this.shards = shards;
+		this.start = start;
+		this.end = end;
+		this.shard = shard;
+		this.index = index;
+	}
+
+	public boolean moveToNext() {
+		if (shard == end) {
+			return false;
+		}
+		index++;
+		while (index >= shards.get(shard).size()) {
+			index = 0;
+			if (++shard == end) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Moves this {@link SparseArrayChainCursor} to the first element with a key that is greater than or equal to the
+	 * given key.
+	 *
+	 * @param key The key to move to.
+	 * @return Whether this {@link SparseArrayChainCursor} has been moved to an element.
+	 */
+	public boolean seek(int key) {
+		int low = start;
+		int high = end;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			int candidate = middle;
+			while (candidate < high && 0 == shards.get(candidate).size()) {
+				candidate++;
+			}
+			if (candidate == high) {
+				high = middle;
+			} else {
+				SparseArray<? extends Payload> array = shards.get(candidate);
+				if (array.keyAt(array.size() - 1) < key) {
+					low = candidate + 1;
+				} else {
+					high = middle;
+				}
+			}
+		}
+		while (low < end && 0 == shards.get(low).size()) {
+			low++;
+		}
+		shard = low;
+		if (low == end) {
+			index = 0;
+			return false;
+		}
+		index = ceilingIndex(shards.get(low), key);
+		return true;
+	}
+
+	private static int ceilingIndex(SparseArray<?> array, int key) {
+		int low = 0;
+		int high = array.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (array.keyAt(middle) < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Splits off a {@link SparseArrayChainCursor} that covers the first half of the remaining shards, including the
+	 * current shard, and is positioned like this {@link SparseArrayChainCursor}. This {@link SparseArrayChainCursor} is
+	 * positioned before the first element of the remaining shards afterwards.
+	 *
+	 * @return The {@link SparseArrayChainCursor} for the first half of the remaining shards, or {@literal null}, if
+	 * less than two shards remain.
+	 */
+	public SparseArrayChainCursor<Payload> trySplit() {
+		int remaining = end - shard;
+		if (remaining < 2) {
+			return null;
+		}
+		int middle = shard + remaining / 2;
+		SparseArrayChainCursor<Payload> prefix = new SparseArrayChainCursor<>(shards, shard, middle, shard, index);
+		start = middle;
+		shard = middle;
+		index = -1;
+		return prefix;
+	}
+
+	/**
+	 * Returns the index of the current shard in the list of shards this {@link SparseArrayChainCursor} has been
+	 * created with.
+	 *
+	 * @return The index of the current shard.
+	 * @throws IllegalStateException If this {@link SparseArrayChainCursor} isn't positioned on an element.
+	 */
+	public int getShard() throws IllegalStateException {
+		checkPosition();
+		return shard;
+	}
+
+	public int getIndex() throws IllegalStateException {
+		checkPosition();
+		return index;
+	}
+
+	public int getKey() throws IllegalStateException {
+		checkPosition();
+		return shards.get(shard).keyAt(index);
+	}
+
+	public Payload getValue() throws IllegalStateException {
+		checkPosition();
+		return shards.get(shard).valueAt(index);
+	}
+
+	private void checkPosition() throws IllegalStateException {
+		if (shard == end || -1 == index) {
+			throw new IllegalStateException("This cursor isn't positioned on an element");
+		}
+	}
+
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+/**
+ * A {@link SparseArrayColumn} is a uniform, index based view on one of the sparse array types, where
+ * integer keys are widened to long keys.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+abstract class SparseArrayColumn {
+
+	/**
+	 * Creates a new {@link SparseArrayColumn} for the given sparse array.
+	 *
+	 * @param array The sparse array to create a {@link SparseArrayColumn} for.
+	 * @return The {@link SparseArrayColumn}.
+	 * @throws IllegalArgumentException If the given sparse array is {@literal null} or not one of
+	 *                                  {@link SparseArray}, {@link SparseIntArray}, {@link SparseLongArray},
+	 *                                  {@link SparseBooleanArray} or {@link LongSparseArray}.
+	 */
+	public static SparseArrayColumn create(Object array) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		} else if (array instanceof SparseArray) {
+			return new ObjectColumn((SparseArray<?>) array);
+		} else if (array instanceof SparseIntArray) {
+			return new IntegerColumn((SparseIntArray) array);
+		} else if (array instanceof SparseLongArray) {
+			return new LongColumn((SparseLongArray) array);
+		} else if (array instanceof SparseBooleanArray) {
+			return new BooleanColumn((SparseBooleanArray) array);
+		} else if (array instanceof LongSparseArray) {
+			return new LongKeyedObjectColumn((LongSparseArray<?>) array);
+		} else {
+			throw new IllegalArgumentException("The given array is not a sparse array: " + array.getClass().getName());
+		}
+	}
+
+	public abstract int size();
+
+	public abstract long keyAt(int index);
+
+	public abstract Object valueAt(int index);
+
+	public boolean hasIntValues() {
+		return false;
+	}
+
+	public boolean hasLongValues() {
+		return false;
+	}
+
+	public boolean hasBooleanValues() {
+		return false;
+	}
+
+	public int intValueAt(int index) throws IllegalStateException {
+		throw new IllegalStateException("This column doesn't contain int values");
+	}
+
+	public long longValueAt(int index) throws IllegalStateException {
+		throw new IllegalStateException("This column doesn't contain long values");
+	}
+
+	public boolean booleanValueAt(int index) throws IllegalStateException {
+		throw new IllegalStateException("This column doesn't contain boolean values");
+	}
+
+	public boolean isNumeric() {
+		return false;
+	}
+
+	public long numericValueAt(int index) throws IllegalStateException {
+		throw new IllegalStateException("This column doesn't contain numeric values");
+	}
+
+	private static final class ObjectColumn extends SparseArrayColumn {
+
+		private final SparseArray<?> array;
+
+		public ObjectColumn(SparseArray<?> array) {
+			this.array = array;
+		}
+
+		public int size() {
+			return array.size();
+		}
+
+		public long keyAt(int index) {
+			return array.keyAt(index);
+		}
+
+		public Object valueAt(int index) {
+			return array.valueAt(index);
+		}
+
+	}
+
+	private static final class IntegerColumn extends SparseArrayColumn {
+
+		private final SparseIntArray array;
+
+		public IntegerColumn(SparseIntArray array) {
+			this.array = array;
+		}
+
+		public int size() {
+			return array.size();
+		}
+
+		public long keyAt(int index) {
+			return array.keyAt(index);
+		}
+
+		public Object valueAt(int index) {
+			return array.valueAt(index);
+		}
+
+		public boolean hasIntValues() {
+			return true;
+		}
+
+		public int intValueAt(int index) {
+			return array.valueAt(index);
+		}
+
+		public boolean isNumeric() {
+			return true;
+		}
+
+		public long numericValueAt(int index) {
+			return array.valueAt(index);
+		}
+
+	}
+
+	private static final class LongColumn extends SparseArrayColumn {
+
+		private final SparseLongArray array;
+
+		public LongColumn(SparseLongArray array) {
+			this.array = array;
+		}
+
+		public int size() {
+			return array.size();
+		}
+
+		public long keyAt(int index) {
+			return array.keyAt(index);
+		}
+
+		public Object valueAt(int index) {
+			return array.valueAt(index);
+		}
+
+		public boolean hasLongValues() {
+			return true;
+		}
+
+		public long longValueAt(int index) {
+			return array.valueAt(index);
+		}
+
+		public boolean isNumeric() {
+			return true;
+		}
+
+		public long numericValueAt(int index) {
+			return array.valueAt(index);
+		}
+
+	}
+
+	private static final class BooleanColumn extends SparseArrayColumn {
+
+		private final SparseBooleanArray array;
+
+		public BooleanColumn(SparseBooleanArray array) {
+			this.array = array;
+		}
+
+		public int size() {
+			return array.size();
+		}
+
+		public long keyAt(int index) {
+			return array.keyAt(index);
+		}
+
+		public Object valueAt(int index) {
+			return array.valueAt(index);
+		}
+
+		public boolean hasBooleanValues() {
+			return true;
+		}
+
+		public boolean booleanValueAt(int index) {
+			return array.valueAt(index);
+		}
+
+		public boolean isNumeric() {
+			return true;
+		}
+
+		public long numericValueAt(int index) {
+			return array.valueAt(index) ? 1 : 0;
+		}
+
+	}
+
+	private static final class LongKeyedObjectColumn extends SparseArrayColumn {
+
+		private final LongSparseArray<?> array;
+
+		public LongKeyedObjectColumn(LongSparseArray<?> array) {
+			this.array = array;
+		}
+
+		public int size() {
+			return array.size();
+		}
+
+		public long keyAt(int index) {
+			return array.keyAt(index);
+		}
+
+		public Object valueAt(int index) {
+			return array.valueAt(index);
+		}
+
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import java.util.Iterator;
+
+/**
+ * A {@link SparseArrayFlatMappingCursor} is a {@link SparseArrayCursor} that maps the value of every element selected
+ * by a given {@link SparseArrayCursor} to an {@link Iterable} with a given {@link ValueMapper} and selects every value
+ * yielded by that {@link Iterable} in turn.
+ *
+ * <p>The index and the key of the current element are the index and the key of the element whose value has been
+ * mapped. Elements whose value is mapped to {@literal null} or to an empty {@link Iterable} are skipped.
+ *
+ * @param <From> The type of the values to be mapped.
+ * @param <To>   The type of the values yielded by the mapped {@link Iterable Iterables}.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class SparseArrayFlatMappingCursor<From, To> implements SparseArrayCursor<To> {
+
+	private final SparseArrayCursor<? extends From> cursor;
+
+	private final ValueMapper<? super From, ? extends Iterable<? extends To>> mapper;
+
+	private Iterator<? extends To> iterator;
+
+	private boolean positioned;
+
+	private To value;
+
+	/**
+	 * Creates a new {@link SparseArrayFlatMappingCursor}.
+	 *
+	 * @param cursor The {@link SparseArrayCursor} to map the values of.
+	 * @param mapper The {@link ValueMapper} to be used.
+	 * @throws IllegalArgumentException If the given {@link SparseArrayCursor} or the given {@link ValueMapper} is
+	 *                                  {@literal null}.
+	 */
+	public SparseArrayFlatMappingCursor(SparseArrayCursor<? extends From> cursor, ValueMapper<? super From, ? extends Iterable<? extends To>> mapper) throws IllegalArgumentException {
+		if (null == cursor) {
+			throw new IllegalArgumentException("The given cursor is null");
+		}
+		if (null == mapper) {
+			throw new IllegalArgumentException("The given mapper is null");
+		}
+		this.cursor = cursor;
+		this.mapper = mapper;
+	}
+
+	public boolean moveToNext() {
+		value = null;
+		while (null == iterator || !iterator.hasNext()) {
+			if (!cursor.moveToNext()) {
+				iterator = null;
+				positioned = false;
+				return false;
+			}
+			Iterable<? extends To> iterable = mapper.map(cursor.getValue());
+			iterator = null == iterable ? null : iterable.iterator();
+		}
+		value = iterator.next();
+		positioned = true;
+		return true;
+	}
+
+	public int getIndex() throws IllegalStateException {
+		checkPositioned();
+		return cursor.getIndex();
+	}
+
+	public int getKey() throws IllegalStateException {
+		checkPositioned();
+		return cursor.getKey();
+	}
+
+	public To getValue() throws IllegalStateException {
+		checkPositioned();
+		return value;
+	}
+
+	private void checkPositioned() throws IllegalStateException {
+		if (!positioned) {
+			throw new IllegalStateException("This cursor isn't positioned on an element");
+		}
+	}
+
+}
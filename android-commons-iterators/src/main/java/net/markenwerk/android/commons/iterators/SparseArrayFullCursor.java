@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.SparseArray;
+
+/**
+ * A {@link SparseArrayFullCursor} is a {@link SparseArrayCursor} that selects every element of a given {@link SparseArray} in ascending key
+ * order.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+public final class SparseArrayFullCursor<Payload> implements SparseArrayCursor<Payload> {
+
+	private final SparseArray<? extends Payload> array;
+
+	private int index = -1;
+
+	private boolean exhausted;
+
+	/**
+	 * Creates a new {@link SparseArrayFullCursor}.
+	 *
+	 * @param array The {@link SparseArray} to move over.
+	 * @throws IllegalArgumentException If the given {@link SparseArray} is {@literal null}.
+	 */
+	public SparseArrayFullCursor(SparseArray<? extends Payload> array) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		this.array = array;
+	}
+
+	public boolean moveToNext() {
+		if (!exhausted) {
+			if (index + 1 < array.size()) {
+				index++;
+				return true;
+			}
+			exhausted = true;
+		}
+		return false;
+	}
+
+	public int getIndex() throws IllegalStateException {
+		if (-1 == index || exhausted) {
+			throw new IllegalStateException("This cursor isn't positioned on an element");
+		}
+		return index;
+	}
+
+	public int getKey() throws IllegalStateException {
+		return array.keyAt(getIndex());
+	}
+
+	public Payload getValue() throws IllegalStateException {
+		return array.valueAt(getIndex());
+	}
+
+}
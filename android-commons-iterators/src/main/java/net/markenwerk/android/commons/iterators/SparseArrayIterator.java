@@ -42,7 +42,7 @@ import java.util.NoSuchElementException;
 @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
 public final class SparseArrayIterator<Payload> extends AbstractProtectedIterator<Entry<Integer, Payload>> {
 
-	private final SparseArray<? extends Payload> array;
+	private SparseArray<? extends Payload> array;
 
 	private int index;
 
@@ -59,6 +59,25 @@ public final class SparseArrayIterator<Payload> extends AbstractProtectedIterato
 		this.array = array;
 	}
 
+	/**
+	 * Resets this {@link SparseArrayIterator}, such that it iterates over the given {@link SparseArray}.
+	 *
+	 * @param array The {@link SparseArray} to iterate over.
+	 * @throws IllegalArgumentException If the given {@link SparseArray} is {@literal null}.
+	 */
+	public void reset(SparseArray<? extends Payload> array) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		this.array = array;
+		this.index = 0;
+	}
+
+	void release() {
+		this.array = null;
+		this.index = 0;
+	}
+
 	public boolean hasNext() {
 		return index < array.size();
 	}
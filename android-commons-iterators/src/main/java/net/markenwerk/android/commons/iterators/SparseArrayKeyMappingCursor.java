@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+/**
+ * A {@link SparseArrayKeyMappingCursor} is a {@link SparseArrayCursor} that maps the keys of the elements selected by a
+ * given {@link SparseArrayCursor} with a given {@link IntMapper}.
+ *
+ * <p>A key is mapped lazily, when it is first accessed, and at most once per element. Values and indices are
+ * passed through unchanged. The mapped keys don't need to be ordered.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class SparseArrayKeyMappingCursor<Payload> implements SparseArrayCursor<Payload> {
+
+	private final SparseArrayCursor<? extends Payload> cursor;
+
+	private final IntMapper mapper;
+
+	private boolean mapped;
+
+	private int key;
+
+	/**
+	 * Creates a new {@link SparseArrayKeyMappingCursor}.
+	 *
+	 * @param cursor The {@link SparseArrayCursor} to map the keys of.
+	 * @param mapper The {@link IntMapper} to be used.
+	 * @throws IllegalArgumentException If the given {@link SparseArrayCursor} or the given {@link IntMapper} is
+	 *                                  {@literal null}.
+	 */
+	public SparseArrayKeyMappingCursor(SparseArrayCursor<? extends Payload> cursor, IntMapper mapper) throws IllegalArgumentException {
+		if (null == cursor) {
+			throw new IllegalArgumentException("The given cursor is null");
+		}
+		if (null == mapper) {
+			throw new IllegalArgumentException("The given mapper is null");
+		}
+		this.cursor = cursor;
+		this.mapper = mapper;
+	}
+
+	public boolean moveToNext() {
+		mapped = false;
+		return cursor.moveToNext();
+	}
+
+	public int getIndex() throws IllegalStateException {
+		return cursor.getIndex();
+	}
+
+	public int getKey() throws IllegalStateException {
+		if (!mapped) {
+			key = mapper.map(cursor.getKey());
+			mapped = true;
+		}
+		return key;
+	}
+
+	public Payload getValue() throws IllegalStateException {
+		return cursor.getValue();
+	}
+
+}
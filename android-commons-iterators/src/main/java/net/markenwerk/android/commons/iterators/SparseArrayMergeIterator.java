@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+import net.markenwerk.commons.iterators.AbstractProtectedIterator;
+
+import java.util.NoSuchElementException;
+
+
+/**
+ * A {@link SparseArrayMergeIterator} is an {@link AbstractProtectedIterator} that iterates simultaneously
+ * over any number of given sparse arrays in ascending key order and yields, for every key that is contained
+ * in at least one of the given sparse arrays, a {@link SparseArrayRow}.
+ *
+ * <p>The given sparse arrays may be any mix of {@link SparseArray}, {@link SparseIntArray},
+ * {@link SparseLongArray}, {@link SparseBooleanArray} and {@link LongSparseArray}. Integer keys are widened
+ * to long keys.
+ *
+ * <p>The current keys of all sparse arrays are kept in a min-heap, which yields a total running time of
+ * {@literal O(n log k)} for {@literal n} entries in {@literal k} sparse arrays. The same
+ * {@link SparseArrayRow} is returned for every call to {@link SparseArrayMergeIterator#next()}, so that no
+ * allocation happens after construction.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+public final class SparseArrayMergeIterator extends AbstractProtectedIterator<SparseArrayRow> {
+
+	private final SparseArrayColumn[] columns;
+
+	private final int[] positions;
+
+	private final int[] heap;
+
+	private final SparseArrayRow row;
+
+	private int heapSize;
+
+	/**
+	 * Creates a new {@link SparseArrayMergeIterator}.
+	 *
+	 * @param arrays The sparse arrays to iterate over.
+	 * @throws IllegalArgumentException If the given array of sparse arrays is {@literal null}, or if any of the
+	 *                                  given sparse arrays is {@literal null} or not one of the supported
+	 *                                  sparse array types.
+	 */
+	public SparseArrayMergeIterator(Object... arrays) throws IllegalArgumentException {
+		if (null == arrays) {
+			throw new IllegalArgumentException("The given arrays are null");
+		}
+		columns = new SparseArrayColumn[arrays.length];
+		for (int i = 0; i < arrays.length; i++) {
+			columns[i] = SparseArrayColumn.create(arrays[i]);
+		}
+		positions = new int[columns.length];
+		heap = new int[columns.length];
+		row = new SparseArrayRow(columns);
+		for (int i = 0; i < columns.length; i++) {
+			if (0 != columns[i].size()) {
+				heap[heapSize++] = i;
+			}
+		}
+		for (int i = heapSize / 2 - 1; i >= 0; i--) {
+			siftDown(i);
+		}
+	}
+
+	public boolean hasNext() {
+		return 0 != heapSize;
+	}
+
+	public SparseArrayRow next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		}
+		long key = currentKey(heap[0]);
+		row.clear(key);
+		while (0 != heapSize && currentKey(heap[0]) == key) {
+			int column = heap[0];
+			row.setIndex(column, positions[column]++);
+			if (positions[column] == columns[column].size()) {
+				heap[0] = heap[--heapSize];
+			}
+			if (0 != heapSize) {
+				siftDown(0);
+			}
+		}
+		return row;
+	}
+
+	private long currentKey(int column) {
+		return columns[column].keyAt(positions[column]);
+	}
+
+	private void siftDown(int index) {
+		int column = heap[index];
+		long key = currentKey(column);
+		int half = heapSize / 2;
+		while (index < half) {
+			int child = 2 * index + 1;
+			long childKey = currentKey(heap[child]);
+			int right = child + 1;
+			if (right < heapSize) {
+				long rightKey = currentKey(heap[right]);
+				if (rightKey < childKey) {
+					child = right;
+					childKey = rightKey;
+				}
+			}
+			if (key <= childKey) {
+				break;
+			}
+			heap[index] = heap[child];
+			index = child;
+		}
+		heap[index] = column;
+	}
+
+}
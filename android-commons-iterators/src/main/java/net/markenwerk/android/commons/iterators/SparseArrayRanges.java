@@ -0,0 +1,484 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+/**
+ * {@link SparseArrayRanges} provides bulk operations that copy all elements within a range of keys from one
+ * sparse array into another or into a new sparse array.
+ *
+ * <p>The index range of the copied elements is located with two binary searches. Elements are transferred with
+ * {@literal append()} whenever the destination is empty or all copied keys are larger than its keys, which avoids
+ * the binary search and the shifting of {@literal put()}. Otherwise, unless only a few elements are copied, the
+ * destination is rebuilt by merging its previous elements with the copied elements. Copying {@literal k} elements
+ * into a sparse array with {@literal n} elements therefore takes {@literal O(n + k)} instead of
+ * {@literal O(k (n + k))} time.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+public final class SparseArrayRanges {
+
+	private static final int PUT_THRESHOLD = 8;
+
+	private SparseArrayRanges() {
+	}
+
+	/**
+	 * Copies all elements with a key in the given range from the given source {@link SparseArray} into the given
+	 * destination {@link SparseArray}, replacing the values of keys that are already contained in the destination.
+	 *
+	 * @param <Payload>   The payload type.
+	 * @param source      The {@link SparseArray} to copy from.
+	 * @param fromKey     The smallest key to be copied.
+	 * @param toKey       The largest key to be copied.
+	 * @param destination The {@link SparseArray} to copy into.
+	 * @return The number of copied elements.
+	 * @throws IllegalArgumentException If the given source or destination is {@literal null} or if the given
+	 *                                  smallest key is larger than the given largest key.
+	 */
+	public static <Payload> int copyRange(SparseArray<? extends Payload> source, int fromKey, int toKey, SparseArray<Payload> destination) throws IllegalArgumentException {
+		checkArrays(source, destination);
+		SparseArrayColumn column = SparseArrayColumn.create(source);
+		int start = startIndex(column, fromKey, toKey);
+		int end = endIndex(column, toKey);
+		int count = end - start;
+		if (0 == count || source == destination) {
+			return count;
+		}
+		int size = destination.size();
+		if (0 == size || destination.keyAt(size - 1) < source.keyAt(start)) {
+			for (int i = start; i < end; i++) {
+				destination.append(source.keyAt(i), source.valueAt(i));
+			}
+		} else if (count <= PUT_THRESHOLD) {
+			for (int i = start; i < end; i++) {
+				destination.put(source.keyAt(i), source.valueAt(i));
+			}
+		} else {
+			SparseArray<Payload> existing = destination.clone();
+			destination.clear();
+			int index = 0;
+			for (int i = start; i < end; i++) {
+				int key = source.keyAt(i);
+				while (index < size && existing.keyAt(index) < key) {
+					destination.append(existing.keyAt(index), existing.valueAt(index));
+					index++;
+				}
+				if (index < size && existing.keyAt(index) == key) {
+					index++;
+				}
+				destination.append(key, source.valueAt(i));
+			}
+			for (; index < size; index++) {
+				destination.append(existing.keyAt(index), existing.valueAt(index));
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Creates a new {@link SparseArray}, that contains all elements with a key in the given range from the given
+	 * {@link SparseArray} and has exactly the required capacity.
+	 *
+	 * @param <Payload> The payload type.
+	 * @param source  The {@link SparseArray} to copy from.
+	 * @param fromKey The smallest key to be copied.
+	 * @param toKey   The largest key to be copied.
+	 * @return The new {@link SparseArray}.
+	 * @throws IllegalArgumentException If the given source is {@literal null} or if the given smallest key is
+	 *                                  larger than the given largest key.
+	 */
+	public static <Payload> SparseArray<Payload> cloneRange(SparseArray<? extends Payload> source, int fromKey, int toKey) throws IllegalArgumentException {
+		checkSource(source);
+		SparseArrayColumn column = SparseArrayColumn.create(source);
+		int start = startIndex(column, fromKey, toKey);
+		int end = endIndex(column, toKey);
+		int count = end - start;
+		SparseArray<Payload> clone = new SparseArray<>(count);
+		for (int i = start; i < end; i++) {
+			clone.append(source.keyAt(i), source.valueAt(i));
+		}
+		return clone;
+	}
+
+	/**
+	 * Copies all elements with a key in the given range from the given source {@link LongSparseArray} into the given
+	 * destination {@link LongSparseArray}, replacing the values of keys that are already contained in the destination.
+	 *
+	 * @param <Payload>   The payload type.
+	 * @param source      The {@link LongSparseArray} to copy from.
+	 * @param fromKey     The smallest key to be copied.
+	 * @param toKey       The largest key to be copied.
+	 * @param destination The {@link LongSparseArray} to copy into.
+	 * @return The number of copied elements.
+	 * @throws IllegalArgumentException If the given source or destination is {@literal null} or if the given
+	 *                                  smallest key is larger than the given largest key.
+	 */
+	public static <Payload> int copyRange(LongSparseArray<? extends Payload> source, long fromKey, long toKey, LongSparseArray<Payload> destination) throws IllegalArgumentException {
+		checkArrays(source, destination);
+		SparseArrayColumn column = SparseArrayColumn.create(source);
+		int start = startIndex(column, fromKey, toKey);
+		int end = endIndex(column, toKey);
+		int count = end - start;
+		if (0 == count || source == destination) {
+			return count;
+		}
+		int size = destination.size();
+		if (0 == size || destination.keyAt(size - 1) < source.keyAt(start)) {
+			for (int i = start; i < end; i++) {
+				destination.append(source.keyAt(i), source.valueAt(i));
+			}
+		} else if (count <= PUT_THRESHOLD) {
+			for (int i = start; i < end; i++) {
+				destination.put(source.keyAt(i), source.valueAt(i));
+			}
+		} else {
+			LongSparseArray<Payload> existing = destination.clone();
+			destination.clear();
+			int index = 0;
+			for (int i = start; i < end; i++) {
+				long key = source.keyAt(i);
+				while (index < size && existing.keyAt(index) < key) {
+					destination.append(existing.keyAt(index), existing.valueAt(index));
+					index++;
+				}
+				if (index < size && existing.keyAt(index) == key) {
+					index++;
+				}
+				destination.append(key, source.valueAt(i));
+			}
+			for (; index < size; index++) {
+				destination.append(existing.keyAt(index), existing.valueAt(index));
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Creates a new {@link LongSparseArray}, that contains all elements with a key in the given range from the given
+	 * {@link LongSparseArray} and has exactly the required capacity.
+	 *
+	 * @param <Payload> The payload type.
+	 * @param source  The {@link LongSparseArray} to copy from.
+	 * @param fromKey The smallest key to be copied.
+	 * @param toKey   The largest key to be copied.
+	 * @return The new {@link LongSparseArray}.
+	 * @throws IllegalArgumentException If the given source is {@literal null} or if the given smallest key is
+	 *                                  larger than the given largest key.
+	 */
+	public static <Payload> LongSparseArray<Payload> cloneRange(LongSparseArray<? extends Payload> source, long fromKey, long toKey) throws IllegalArgumentException {
+		checkSource(source);
+		SparseArrayColumn column = SparseArrayColumn.create(source);
+		int start = startIndex(column, fromKey, toKey);
+		int end = endIndex(column, toKey);
+		int count = end - start;
+		LongSparseArray<Payload> clone = new LongSparseArray<>(count);
+		for (int i = start; i < end; i++) {
+			clone.append(source.keyAt(i), source.valueAt(i));
+		}
+		return clone;
+	}
+
+	/**
+	 * Copies all elements with a key in the given range from the given source {@link SparseIntArray} into the given
+	 * destination {@link SparseIntArray}, replacing the values of keys that are already contained in the destination.
+	 *
+	 * @param source      The {@link SparseIntArray} to copy from.
+	 * @param fromKey     The smallest key to be copied.
+	 * @param toKey       The largest key to be copied.
+	 * @param destination The {@link SparseIntArray} to copy into.
+	 * @return The number of copied elements.
+	 * @throws IllegalArgumentException If the given source or destination is {@literal null} or if the given
+	 *                                  smallest key is larger than the given largest key.
+	 */
+	public static int copyRange(SparseIntArray source, int fromKey, int toKey, SparseIntArray destination) throws IllegalArgumentException {
+		checkArrays(source, destination);
+		SparseArrayColumn column = SparseArrayColumn.create(source);
+		int start = startIndex(column, fromKey, toKey);
+		int end = endIndex(column, toKey);
+		int count = end - start;
+		if (0 == count || source == destination) {
+			return count;
+		}
+		int size = destination.size();
+		if (0 == size || destination.keyAt(size - 1) < source.keyAt(start)) {
+			for (int i = start; i < end; i++) {
+				destination.append(source.keyAt(i), source.valueAt(i));
+			}
+		} else if (count <= PUT_THRESHOLD) {
+			for (int i = start; i < end; i++) {
+				destination.put(source.keyAt(i), source.valueAt(i));
+			}
+		} else {
+			SparseIntArray existing = destination.clone();
+			destination.clear();
+			int index = 0;
+			for (int i = start; i < end; i++) {
+				int key = source.keyAt(i);
+				while (index < size && existing.keyAt(index) < key) {
+					destination.append(existing.keyAt(index), existing.valueAt(index));
+					index++;
+				}
+				if (index < size && existing.keyAt(index) == key) {
+					index++;
+				}
+				destination.append(key, source.valueAt(i));
+			}
+			for (; index < size; index++) {
+				destination.append(existing.keyAt(index), existing.valueAt(index));
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Creates a new {@link SparseIntArray}, that contains all elements with a key in the given range from the given
+	 * {@link SparseIntArray} and has exactly the required capacity.
+	 *
+	 * @param source  The {@link SparseIntArray} to copy from.
+	 * @param fromKey The smallest key to be copied.
+	 * @param toKey   The largest key to be copied.
+	 * @return The new {@link SparseIntArray}.
+	 * @throws IllegalArgumentException If the given source is {@literal null} or if the given smallest key is
+	 *                                  larger than the given largest key.
+	 */
+	public static SparseIntArray cloneRange(SparseIntArray source, int fromKey, int toKey) throws IllegalArgumentException {
+		checkSource(source);
+		SparseArrayColumn column = SparseArrayColumn.create(source);
+		int start = startIndex(column, fromKey, toKey);
+		int end = endIndex(column, toKey);
+		int count = end - start;
+		SparseIntArray clone = new SparseIntArray(count);
+		for (int i = start; i < end; i++) {
+			clone.append(source.keyAt(i), source.valueAt(i));
+		}
+		return clone;
+	}
+
+	/**
+	 * Copies all elements with a key in the given range from the given source {@link SparseLongArray} into the given
+	 * destination {@link SparseLongArray}, replacing the values of keys that are already contained in the destination.
+	 *
+	 * @param source      The {@link SparseLongArray} to copy from.
+	 * @param fromKey     The smallest key to be copied.
+	 * @param toKey       The largest key to be copied.
+	 * @param destination The {@link SparseLongArray} to copy into.
+	 * @return The number of copied elements.
+	 * @throws IllegalArgumentException If the given source or destination is {@literal null} or if the given
+	 *                                  smallest key is larger than the given largest key.
+	 */
+	public static int copyRange(SparseLongArray source, int fromKey, int toKey, SparseLongArray destination) throws IllegalArgumentException {
+		checkArrays(source, destination);
+		SparseArrayColumn column = SparseArrayColumn.create(source);
+		int start = startIndex(column, fromKey, toKey);
+		int end = endIndex(column, toKey);
+		int count = end - start;
+		if (0 == count || source == destination) {
+			return count;
+		}
+		int size = destination.size();
+		if (0 == size || destination.keyAt(size - 1) < source.keyAt(start)) {
+			for (int i = start; i < end; i++) {
+				destination.append(source.keyAt(i), source.valueAt(i));
+			}
+		} else if (count <= PUT_THRESHOLD) {
+			for (int i = start; i < end; i++) {
+				destination.put(source.keyAt(i), source.valueAt(i));
+			}
+		} else {
+			SparseLongArray existing = destination.clone();
+			destination.clear();
+			int index = 0;
+			for (int i = start; i < end; i++) {
+				int key = source.keyAt(i);
+				while (index < size && existing.keyAt(index) < key) {
+					destination.append(existing.keyAt(index), existing.valueAt(index));
+					index++;
+				}
+				if (index < size && existing.keyAt(index) == key) {
+					index++;
+				}
+				destination.append(key, source.valueAt(i));
+			}
+			for (; index < size; index++) {
+				destination.append(existing.keyAt(index), existing.valueAt(index));
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Creates a new {@link SparseLongArray}, that contains all elements with a key in the given range from the given
+	 * {@link SparseLongArray} and has exactly the required capacity.
+	 *
+	 * @param source  The {@link SparseLongArray} to copy from.
+	 * @param fromKey The smallest key to be copied.
+	 * @param toKey   The largest key to be copied.
+	 * @return The new {@link SparseLongArray}.
+	 * @throws IllegalArgumentException If the given source is {@literal null} or if the given smallest key is
+	 *                                  larger than the given largest key.
+	 */
+	public static SparseLongArray cloneRange(SparseLongArray source, int fromKey, int toKey) throws IllegalArgumentException {
+		checkSource(source);
+		SparseArrayColumn column = SparseArrayColumn.create(source);
+		int start = startIndex(column, fromKey, toKey);
+		int end = endIndex(column, toKey);
+		int count = end - start;
+		SparseLongArray clone = new SparseLongArray(count);
+		for (int i = start; i < end; i++) {
+			clone.append(source.keyAt(i), source.valueAt(i));
+		}
+		return clone;
+	}
+
+	/**
+	 * Copies all elements with a key in the given range from the given source {@link SparseBooleanArray} into the given
+	 * destination {@link SparseBooleanArray}, replacing the values of keys that are already contained in the destination.
+	 *
+	 * @param source      The {@link SparseBooleanArray} to copy from.
+	 * @param fromKey     The smallest key to be copied.
+	 * @param toKey       The largest key to be copied.
+	 * @param destination The {@link SparseBooleanArray} to copy into.
+	 * @return The number of copied elements.
+	 * @throws IllegalArgumentException If the given source or destination is {@literal null} or if the given
+	 *                                  smallest key is larger than the given largest key.
+	 */
+	public static int copyRange(SparseBooleanArray source, int fromKey, int toKey, SparseBooleanArray destination) throws IllegalArgumentException {
+		checkArrays(source, destination);
+		SparseArrayColumn column = SparseArrayColumn.create(source);
+		int start = startIndex(column, fromKey, toKey);
+		int end = endIndex(column, toKey);
+		int count = end - start;
+		if (0 == count || source == destination) {
+			return count;
+		}
+		int size = destination.size();
+		if (0 == size || destination.keyAt(size - 1) < source.keyAt(start)) {
+			for (int i = start; i < end; i++) {
+				destination.append(source.keyAt(i), source.valueAt(i));
+			}
+		} else if (count <= PUT_THRESHOLD) {
+			for (int i = start; i < end; i++) {
+				destination.put(source.keyAt(i), source.valueAt(i));
+			}
+		} else {
+			SparseBooleanArray existing = destination.clone();
+			destination.clear();
+			int index = 0;
+			for (int i = start; i < end; i++) {
+				int key = source.keyAt(i);
+				while (index < size && existing.keyAt(index) < key) {
+					destination.append(existing.keyAt(index), existing.valueAt(index));
+					index++;
+				}
+				if (index < size && existing.keyAt(index) == key) {
+					index++;
+				}
+				destination.append(key, source.valueAt(i));
+			}
+			for (; index < size; index++) {
+				destination.append(existing.keyAt(index), existing.valueAt(index));
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Creates a new {@link SparseBooleanArray}, that contains all elements with a key in the given range from the given
+	 * {@link SparseBooleanArray} and has exactly the required capacity.
+	 *
+	 * @param source  The {@link SparseBooleanArray} to copy from.
+	 * @param fromKey The smallest key to be copied.
+	 * @param toKey   The largest key to be copied.
+	 * @return The new {@link SparseBooleanArray}.
+	 * @throws IllegalArgumentException If the given source is {@literal null} or if the given smallest key is
+	 *                                  larger than the given largest key.
+	 */
+	public static SparseBooleanArray cloneRange(SparseBooleanArray source, int fromKey, int toKey) throws IllegalArgumentException {
+		checkSource(source);
+		SparseArrayColumn column = SparseArrayColumn.create(source);
+		int start = startIndex(column, fromKey, toKey);
+		int end = endIndex(column, toKey);
+		int count = end - start;
+		SparseBooleanArray clone = new SparseBooleanArray(count);
+		for (int i = start; i < end; i++) {
+			clone.append(source.keyAt(i), source.valueAt(i));
+		}
+		return clone;
+	}
+
+	private static void checkSource(Object source) throws IllegalArgumentException {
+		if (null == source) {
+			throw new IllegalArgumentException("The given source is null");
+		}
+	}
+
+	private static void checkArrays(Object source, Object destination) throws IllegalArgumentException {
+		if (null == source) {
+			throw new IllegalArgumentException("The given source is null");
+		}
+		if (null == destination) {
+			throw new IllegalArgumentException("The given destination is null");
+		}
+	}
+
+	private static int startIndex(SparseArrayColumn column, long fromKey, long toKey) throws IllegalArgumentException {
+		if (fromKey > toKey) {
+			throw new IllegalArgumentException("The given smallest key is larger than the given largest key");
+		}
+		int low = 0;
+		int high = column.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (column.keyAt(middle) < fromKey) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static int endIndex(SparseArrayColumn column, long toKey) {
+		int low = 0;
+		int high = column.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (column.keyAt(middle) <= toKey) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+}
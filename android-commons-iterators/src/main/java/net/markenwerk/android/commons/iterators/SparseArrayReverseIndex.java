@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.SparseArray;
+
+/**
+ * A {@link SparseArrayReverseIndex} is a cache for {@link SparseArray#indexOfValue(Object)}, that maps
+ * values, compared by identity, to the key of their first occurrence in a given {@link SparseArray}.
+ *
+ * <p>The cache is built in a single pass upon the first lookup and holds at most a given number of
+ * mappings. The build stops once the cache is full, later lookups evict the least recently used mapping.
+ * Lookups of cached values take {@literal O(log n)} time to map the cached key to an index. Lookups of
+ * values that aren't cached fall back to a linear scan, unless all values are known to be cached, and are
+ * cached afterwards.
+ *
+ * <p>Changes should be made through {@link SparseArrayReverseIndex#put(int, Object)} and
+ * {@link SparseArrayReverseIndex#delete(int)}, which patch the cache incrementally. After changing the
+ * {@link SparseArray} directly, {@link SparseArrayReverseIndex#invalidate()} must be called. Stale mappings
+ * are detected and corrected on lookup. Values that have been replaced or removed are therefore not eagerly
+ * removed from the cache.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+public final class SparseArrayReverseIndex<Payload> {
+
+	private final SparseArray<Payload> array;
+
+	private final IdentityLruMap keys;
+
+	private boolean valid;
+
+	private boolean complete;
+
+	/**
+	 * Creates a new, unbounded {@link SparseArrayReverseIndex}.
+	 *
+	 * @param array The {@link SparseArray} to index.
+	 * @throws IllegalArgumentException If the given {@link SparseArray} is {@literal null}.
+	 */
+	public SparseArrayReverseIndex(SparseArray<Payload> array) throws IllegalArgumentException {
+		this(array, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a new {@link SparseArrayReverseIndex}.
+	 *
+	 * @param array       The {@link SparseArray} to index.
+	 * @param maximumSize The maximum number of cached mappings.
+	 * @throws IllegalArgumentException If the given {@link SparseArray} is {@literal null} or if the given
+	 *                                  maximum size is less than {@literal 1}.
+	 */
+	public SparseArrayReverseIndex(SparseArray<Payload> array, int maximumSize) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("The given maximum size is less than 1");
+		}
+		this.array = array;
+		this.keys = new IdentityLruMap(maximumSize);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the given value in the underlying {@link SparseArray}.
+	 *
+	 * @param value The value to look up.
+	 * @return The index or {@literal -1}, if the underlying {@link SparseArray} doesn't contain the given
+	 * value.
+	 */
+	public int indexOfValue(Payload value) {
+		if (!valid) {
+			build();
+		}
+		int slot = keys.find(value);
+		if (IdentityLruMap.NONE != slot) {
+			int index = array.indexOfKey(keys.valueAt(slot));
+			if (index >= 0 && array.valueAt(index) == value) {
+				return index;
+			}
+			keys.remove(value);
+		} else if (isComplete()) {
+			return -1;
+		}
+		for (int i = 0, n = array.size(); i < n; i++) {
+			if (array.valueAt(i) == value) {
+				keys.put(value, array.keyAt(i));
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Maps the given key to the given value in the underlying {@link SparseArray} and patches this
+	 * {@link SparseArrayReverseIndex} accordingly.
+	 *
+	 * @param key   The key.
+	 * @param value The value.
+	 */
+	public void put(int key, Payload value) {
+		array.put(key, value);
+		if (valid) {
+			int slot = keys.find(value);
+			if (IdentityLruMap.NONE == slot ? isComplete() : key < keys.valueAt(slot)) {
+				keys.put(value, key);
+			}
+		}
+	}
+
+	/**
+	 * Removes the mapping for the given key from the underlying {@link SparseArray}. The mapping for the
+	 * removed value is corrected upon the next lookup of that value.
+	 *
+	 * @param key The key.
+	 */
+	public void delete(int key) {
+		array.delete(key);
+	}
+
+	/**
+	 * Invalidates this {@link SparseArrayReverseIndex}, such that it is rebuilt upon the next lookup. This
+	 * must be called after the underlying {@link SparseArray} has been changed directly.
+	 */
+	public void invalidate() {
+		valid = false;
+	}
+
+	private void build() {
+		keys.clear();
+		complete = true;
+		SparseArrayCursor<Payload> cursor = new SparseArrayFullCursor<>(array);
+		while (cursor.moveToNext()) {
+			Payload value = cursor.getValue();
+			if (IdentityLruMap.NONE == keys.find(value)) {
+				if (keys.isFull()) {
+					complete = false;
+					break;
+				}
+				keys.put(value, cursor.getKey());
+			}
+		}
+		valid = true;
+	}
+
+	private boolean isComplete() {
+		return complete && 0 == keys.evictions();
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+
+/**
+ * A {@link SparseArrayRow} is the reusable view on a single key of a {@link SparseArrayMergeIterator}, that
+ * yields, for every merged sparse array, whether it contains the current key and, if so, the corresponding
+ * value.
+ *
+ * <p>A {@link SparseArrayRow} is only valid until the next call to {@link SparseArrayMergeIterator#next()}.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+public final class SparseArrayRow {
+
+	private final SparseArrayColumn[] columns;
+
+	private final int[] indices;
+
+	private final int[] presentColumns;
+
+	private int presentCount;
+
+	private long key;
+
+	SparseArrayRow(SparseArrayColumn[] columns) {
+		this.columns = columns;
+		this.indices = new int[columns.length];
+		this.presentColumns = new int[columns.length];
+		for (int i = 0; i < indices.length; i++) {
+			indices[i] = -1;
+		}
+	}
+
+	void clear(long key) {
+		for (int i = 0; i < presentCount; i++) {
+			indices[presentColumns[i]] = -1;
+		}
+		this.presentCount = 0;
+		this.key = key;
+	}
+
+	void setIndex(int column, int index) {
+		indices[column] = index;
+		presentColumns[presentCount++] = column;
+	}
+
+	/**
+	 * Returns the current key. Integer keys are widened to long keys.
+	 *
+	 * @return The current key.
+	 */
+	public long getKey() {
+		return key;
+	}
+
+	/**
+	 * Returns the number of merged sparse arrays.
+	 *
+	 * @return The number of merged sparse arrays.
+	 */
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Returns the number of merged sparse arrays that contain the current key.
+	 *
+	 * @return The number of merged sparse arrays that contain the current key.
+	 */
+	public int getPresentCount() {
+		return presentCount;
+	}
+
+	/**
+	 * Returns whether the merged sparse array with the given column index contains the current key.
+	 *
+	 * @param column The column index.
+	 * @return Whether the merged sparse array contains the current key.
+	 * @throws IndexOutOfBoundsException If the given column index is out of range.
+	 */
+	public boolean isPresent(int column) throws IndexOutOfBoundsException {
+		return -1 != indices[column];
+	}
+
+	/**
+	 * Returns the index of the current key in the merged sparse array with the given column index.
+	 *
+	 * @param column The column index.
+	 * @return The index of the current key or {@literal -1}, if the merged sparse array doesn't contain the
+	 * current key.
+	 * @throws IndexOutOfBoundsException If the given column index is out of range.
+	 */
+	public int getIndex(int column) throws IndexOutOfBoundsException {
+		return indices[column];
+	}
+
+	/**
+	 * Returns the value for the current key in the merged sparse array with the given column index. Values
+	 * of primitive sparse arrays are boxed.
+	 *
+	 * @param column The column index.
+	 * @return The value or {@literal null}, if the merged sparse array doesn't contain the current key.
+	 * @throws IndexOutOfBoundsException If the given column index is out of range.
+	 */
+	public Object getValue(int column) throws IndexOutOfBoundsException {
+		int index = indices[column];
+		return -1 == index ? null : columns[column].valueAt(index);
+	}
+
+	/**
+	 * Returns the value for the current key in the merged {@link android.util.SparseIntArray} with the given
+	 * column index.
+	 *
+	 * @param column The column index.
+	 * @return The value or {@literal 0}, if the merged sparse array doesn't contain the current key.
+	 * @throws IndexOutOfBoundsException If the given column index is out of range.
+	 * @throws IllegalStateException     If the merged sparse array isn't a {@link android.util.SparseIntArray}.
+	 */
+	public int getIntValue(int column) throws IndexOutOfBoundsException, IllegalStateException {
+		int index = indices[column];
+		SparseArrayColumn sparseArrayColumn = columns[column];
+		if (!sparseArrayColumn.hasIntValues()) {
+			throw new IllegalStateException("The merged sparse array doesn't contain int values");
+		}
+		return -1 == index ? 0 : sparseArrayColumn.intValueAt(index);
+	}
+
+	/**
+	 * Returns the value for the current key in the merged {@link android.util.SparseLongArray} with the given
+	 * column index.
+	 *
+	 * @param column The column index.
+	 * @return The value or {@literal 0}, if the merged sparse array doesn't contain the current key.
+	 * @throws IndexOutOfBoundsException If the given column index is out of range.
+	 * @throws IllegalStateException     If the merged sparse array isn't a {@link android.util.SparseLongArray}.
+	 */
+	public long getLongValue(int column) throws IndexOutOfBoundsException, IllegalStateException {
+		int index = indices[column];
+		SparseArrayColumn sparseArrayColumn = columns[column];
+		if (!sparseArrayColumn.hasLongValues()) {
+			throw new IllegalStateException("The merged sparse array doesn't contain long values");
+		}
+		return -1 == index ? 0 : sparseArrayColumn.longValueAt(index);
+	}
+
+	/**
+	 * Returns the value for the current key in the merged {@link android.util.SparseBooleanArray} with the
+	 * given column index.
+	 *
+	 * @param column The column index.
+	 * @return The value or {@literal false}, if the merged sparse array doesn't contain the current key.
+	 * @throws IndexOutOfBoundsException If the given column index is out of range.
+	 * @throws IllegalStateException     If the merged sparse array isn't a {@link android.util.SparseBooleanArray}.
+	 */
+	public boolean getBooleanValue(int column) throws IndexOutOfBoundsException, IllegalStateException {
+		int index = indices[column];
+		SparseArrayColumn sparseArrayColumn = columns[column];
+		if (!sparseArrayColumn.hasBooleanValues()) {
+			throw new IllegalStateException("The merged sparse array doesn't contain boolean values");
+		}
+		return -1 != index && sparseArrayColumn.booleanValueAt(index);
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.SparseArray;
+
+import java.util.Random;
+
+/**
+ * A {@link SparseArraySampleCursor} is a {@link SparseArrayCursor} that selects a uniformly distributed random sample of
+ * a given size from a given {@link SparseArray}. The selected elements are yielded in key order.
+ *
+ * <p>Because the size of the {@link SparseArray} is known upfront, the sample is drawn in a single pass with
+ * sequential selection sampling, which, unlike reservoir sampling, needs no buffer for the selected
+ * indices. Every element of a {@link SparseArray} with {@literal n} elements is selected with probability
+ * {@literal m/n} and moving over the {@link SparseArray} takes {@literal O(n)} time.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+public final class SparseArraySampleCursor<Payload> implements SparseArrayCursor<Payload> {
+
+	private final SparseArray<? extends Payload> array;
+
+	private final Random random;
+
+	private final int size;
+
+	private int needed;
+
+	private int index = -1;
+
+	private boolean exhausted;
+
+	/**
+	 * Creates a new {@link SparseArraySampleCursor} with an unseeded {@link Random}.
+	 *
+	 * @param array The {@link SparseArray} to move over.
+	 * @param count The size of the sample.
+	 * @throws IllegalArgumentException If the given {@link SparseArray} is {@literal null} or if the given count is
+	 *                                  negative.
+	 */
+	public SparseArraySampleCursor(SparseArray<? extends Payload> array, int count) throws IllegalArgumentException {
+		this(array, count, new Random());
+	}
+
+	/**
+	 * Creates a new {@link SparseArraySampleCursor}.
+	 *
+	 * @param array  The {@link SparseArray} to move over.
+	 * @param count  The size of the sample.
+	 * @param random The {@link Random} to draw the sample with.
+	 * @throws IllegalArgumentException If the given {@link SparseArray} is {@literal null}, if the given count is
+	 *                                  negative or if the given {@link Random} is {@literal null}.
+	 */
+	public SparseArraySampleCursor(SparseArray<? extends Payload> array, int count, Random random) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("The given count is negative");
+		}
+		if (null == random) {
+			throw new IllegalArgumentException("The given random is null");
+		}
+		this.array = array;
+		this.random = random;
+		this.size = array.size();
+		this.needed = Math.min(count, size);
+	}
+
+	public boolean moveToNext() {
+		if (!exhausted) {
+			for (int next = index + 1; 0 != needed && next < size; next++) {
+				if (random.nextInt(size - next) < needed) {
+					needed--;
+					index = next;
+					return true;
+				}
+			}
+			exhausted = true;
+		}
+		return false;
+	}
+
+	public int getIndex() throws IllegalStateException {
+		if (-1 == index || exhausted) {
+			throw new IllegalStateException("This cursor isn't positioned on an element");
+		}
+		return index;
+	}
+
+	public int getKey() throws IllegalStateException {
+		return array.keyAt(getIndex());
+	}
+
+	public Payload getValue() throws IllegalStateException {
+		return array.valueAt(getIndex());
+	}
+
+}
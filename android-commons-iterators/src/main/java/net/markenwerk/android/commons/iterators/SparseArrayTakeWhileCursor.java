@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+/**
+ * A {@link SparseArrayTakeWhileCursor} is a {@link SparseArrayCursor} that selects the elements selected by a given
+ * {@link SparseArrayCursor} as long as their keys satisfy a given {@link IntPredicate}.
+ *
+ * <p>The given {@link SparseArrayCursor} isn't moved any further, once a key doesn't satisfy the given
+ * {@link IntPredicate}, such that taking the elements with keys below a threshold from a {@link SparseArrayCursor} over
+ * a large array only touches the taken elements and the first rejected element.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class SparseArrayTakeWhileCursor<Payload> implements SparseArrayCursor<Payload> {
+
+	private final SparseArrayCursor<? extends Payload> cursor;
+
+	private final IntPredicate predicate;
+
+	private boolean positioned;
+
+	private boolean exhausted;
+
+	/**
+	 * Creates a new {@link SparseArrayTakeWhileCursor}.
+	 *
+	 * @param cursor    The {@link SparseArrayCursor} to take elements from.
+	 * @param predicate The {@link IntPredicate} to test the keys with.
+	 * @throws IllegalArgumentException If the given {@link SparseArrayCursor} or the given {@link IntPredicate} is
+	 *                                  {@literal null}.
+	 */
+	public SparseArrayTakeWhileCursor(SparseArrayCursor<? extends Payload> cursor, IntPredicate predicate) throws IllegalArgumentException {
+		if (null == cursor) {
+			throw new IllegalArgumentException("The given cursor is null");
+		}
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		this.cursor = cursor;
+		this.predicate = predicate;
+	}
+
+	public boolean moveToNext() {
+		if (!exhausted) {
+			if (cursor.moveToNext() && predicate.test(cursor.getKey())) {
+				positioned = true;
+				return true;
+			}
+			exhausted = true;
+			positioned = false;
+		}
+		return false;
+	}
+
+	public int getIndex() throws IllegalStateException {
+		checkPositioned();
+		return cursor.getIndex();
+	}
+
+	public int getKey() throws IllegalStateException {
+		checkPositioned();
+		return cursor.getKey();
+	}
+
+	public Payload getValue() throws IllegalStateException {
+		checkPositioned();
+		return cursor.getValue();
+	}
+
+	private void checkPositioned() throws IllegalStateException {
+		if (!positioned) {
+			throw new IllegalStateException("This cursor isn't positioned on an element");
+		}
+	}
+
+}
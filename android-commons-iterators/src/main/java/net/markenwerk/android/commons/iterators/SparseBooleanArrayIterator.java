@@ -41,7 +41,7 @@ import java.util.NoSuchElementException;
 @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
 public final class SparseBooleanArrayIterator extends AbstractProtectedIterator<Entry<Integer, Boolean>> {
 
-	private final SparseBooleanArray array;
+	private SparseBooleanArray array;
 
 	private int index;
 
@@ -58,6 +58,25 @@ public final class SparseBooleanArrayIterator extends AbstractProtectedIterator<
 		this.array = array;
 	}
 
+	/**
+	 * Resets this {@link SparseBooleanArrayIterator}, such that it iterates over the given {@link SparseBooleanArray}.
+	 *
+	 * @param array The {@link SparseBooleanArray} to iterate over.
+	 * @throws IllegalArgumentException If the given {@link SparseBooleanArray} is {@literal null}.
+	 */
+	public void reset(SparseBooleanArray array) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		this.array = array;
+		this.index = 0;
+	}
+
+	void release() {
+		this.array = null;
+		this.index = 0;
+	}
+
 	public boolean hasNext() {
 		return index < array.size();
 	}
@@ -41,7 +41,7 @@ import java.util.NoSuchElementException;
 @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
 public final class SparseIntegerArrayIterator extends AbstractProtectedIterator<Entry<Integer, Integer>> {
 
-	private final SparseIntArray array;
+	private SparseIntArray array;
 
 	private int index;
 
@@ -58,6 +58,25 @@ public final class SparseIntegerArrayIterator extends AbstractProtectedIterator<
 		this.array = array;
 	}
 
+	/**
+	 * Resets this {@link SparseIntegerArrayIterator}, such that it iterates over the given {@link SparseIntArray}.
+	 *
+	 * @param array The {@link SparseIntArray} to iterate over.
+	 * @throws IllegalArgumentException If the given {@link SparseIntArray} is {@literal null}.
+	 */
+	public void reset(SparseIntArray array) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		this.array = array;
+		this.index = 0;
+	}
+
+	void release() {
+		this.array = null;
+		this.index = 0;
+	}
+
 	public boolean hasNext() {
 		return index < array.size();
 	}
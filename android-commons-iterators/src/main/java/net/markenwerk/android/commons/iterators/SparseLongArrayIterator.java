@@ -41,7 +41,7 @@ import java.util.NoSuchElementException;
 @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
 public final class SparseLongArrayIterator extends AbstractProtectedIterator<Entry<Integer, Long>> {
 
-	private final SparseLongArray array;
+	private SparseLongArray array;
 
 	private int index;
 
@@ -58,6 +58,25 @@ public final class SparseLongArrayIterator extends AbstractProtectedIterator<Ent
 		this.array = array;
 	}
 
+	/**
+	 * Resets this {@link SparseLongArrayIterator}, such that it iterates over the given {@link SparseLongArray}.
+	 *
+	 * @param array The {@link SparseLongArray} to iterate over.
+	 * @throws IllegalArgumentException If the given {@link SparseLongArray} is {@literal null}.
+	 */
+	public void reset(SparseLongArray array) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		this.array = array;
+		this.index = 0;
+	}
+
+	void release() {
+		this.array = null;
+		this.index = 0;
+	}
+
 	public boolean hasNext() {
 		return index < array.size();
 	}
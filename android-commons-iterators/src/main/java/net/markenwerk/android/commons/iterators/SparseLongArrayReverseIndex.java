@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.SparseLongArray;
+
+import java.util.Arrays;
+
+/**
+ * A {@link SparseLongArrayReverseIndex} is a cache for {@link SparseLongArray#indexOfValue(long)}, that keeps the entries of a given
+ * {@link SparseLongArray} sorted by value, such that a lookup takes {@literal O(log n)} time instead of {@literal O(n)}.
+ *
+ * <p>The index is built upon the first lookup in {@literal O(n log n)} time. Changes should be made through
+ * {@link SparseLongArrayReverseIndex#put(int, long)} and {@link SparseLongArrayReverseIndex#delete(int)}, which patch the index
+ * incrementally in {@literal O(n)} time. After changing the {@link SparseLongArray} directly,
+ * {@link SparseLongArrayReverseIndex#invalidate()} must be called. Stale entries are detected and cause a rebuild on
+ * lookup.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+public final class SparseLongArrayReverseIndex {
+
+	private final SparseLongArray array;
+
+	private long[] values = new long[0];
+
+	private int[] keys = new int[0];
+
+	private int size;
+
+	private boolean valid;
+
+	/**
+	 * Creates a new {@link SparseLongArrayReverseIndex}.
+	 *
+	 * @param array The {@link SparseLongArray} to index.
+	 * @throws IllegalArgumentException If the given {@link SparseLongArray} is {@literal null}.
+	 */
+	public SparseLongArrayReverseIndex(SparseLongArray array) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		this.array = array;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the given value in the underlying {@link SparseLongArray}.
+	 *
+	 * @param value The value to look up.
+	 * @return The index or {@literal -1}, if the underlying {@link SparseLongArray} doesn't contain the given value.
+	 */
+	public int indexOfValue(long value) {
+		if (!valid) {
+			build();
+		}
+		int position = position(value, Integer.MIN_VALUE);
+		if (position == size || values[position] != value) {
+			return -1;
+		}
+		int index = array.indexOfKey(keys[position]);
+		if (index < 0 || array.valueAt(index) != value) {
+			build();
+			position = position(value, Integer.MIN_VALUE);
+			if (position == size || values[position] != value) {
+				return -1;
+			}
+			index = array.indexOfKey(keys[position]);
+		}
+		return index;
+	}
+
+	/**
+	 * Maps the given key to the given value in the underlying {@link SparseLongArray} and patches this
+	 * {@link SparseLongArrayReverseIndex} accordingly.
+	 *
+	 * @param key   The key.
+	 * @param value The value.
+	 */
+	public void put(int key, long value) {
+		if (valid) {
+			unmap(key);
+		}
+		if (valid) {
+			if (size == values.length) {
+				int capacity = size + (size >> 1) + 1;
+				values = Arrays.copyOf(values, capacity);
+				keys = Arrays.copyOf(keys, capacity);
+			}
+			int position = position(value, key);
+			System.arraycopy(values, position, values, position + 1, size - position);
+			System.arraycopy(keys, position, keys, position + 1, size - position);
+			values[position] = value;
+			keys[position] = key;
+			size++;
+		}
+		array.put(key, value);
+	}
+
+	/**
+	 * Removes the mapping for the given key from the underlying {@link SparseLongArray} and patches this
+	 * {@link SparseLongArrayReverseIndex} accordingly.
+	 *
+	 * @param key The key.
+	 */
+	public void delete(int key) {
+		if (valid) {
+			unmap(key);
+		}
+		array.delete(key);
+	}
+
+	/**
+	 * Invalidates this {@link SparseLongArrayReverseIndex}, such that it is rebuilt upon the next lookup. This must be
+	 * called after the underlying {@link SparseLongArray} has been changed directly.
+	 */
+	public void invalidate() {
+		valid = false;
+	}
+
+	private void unmap(int key) {
+		int index = array.indexOfKey(key);
+		if (index >= 0) {
+			int position = position(array.valueAt(index), key);
+			if (position < size && keys[position] == key) {
+				size--;
+				System.arraycopy(values, position + 1, values, position, size - position);
+				System.arraycopy(keys, position + 1, keys, position, size - position);
+			} else {
+				valid = false;
+			}
+		}
+	}
+
+	private int position(long value, int key) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (values[middle] < value || (values[middle] == value && keys[middle] < key)) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private void build() {
+		size = array.size();
+		if (values.length < size) {
+			values = new long[size];
+			keys = new int[size];
+		}
+		for (int i = 0; i < size; i++) {
+			values[i] = array.valueAt(i);
+			keys[i] = array.keyAt(i);
+		}
+		ValueKeySort.sort(values, keys, size);
+		valid = true;
+	}
+
+}
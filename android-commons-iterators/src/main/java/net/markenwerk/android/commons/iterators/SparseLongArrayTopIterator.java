@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.SparseLongArray;
+
+import net.markenwerk.commons.datastructures.Entry;
+import net.markenwerk.commons.iterators.AbstractProtectedIterator;
+
+import java.util.NoSuchElementException;
+
+
+/**
+ * A {@link SparseLongArrayTopIterator} is an {@link AbstractProtectedIterator} that iterates over the first
+ * {@literal k} entries of a given {@link SparseLongArray}, when ordered by value in a given {@link SortOrder}.
+ * Entries with equal values are ordered by key.
+ *
+ * <p>The entries are selected upon construction with a bounded heap, which takes {@literal O(n log k)}
+ * time and {@literal O(k)} memory.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+public final class SparseLongArrayTopIterator extends AbstractProtectedIterator<Entry<Integer, Long>> {
+
+	private final SparseLongArray array;
+
+	private final int[] indices;
+
+	private int index;
+
+	/**
+	 * Creates a new {@link SparseLongArrayTopIterator}.
+	 *
+	 * @param array The {@link SparseLongArray} to iterate over.
+	 * @param count The maximum number of entries to iterate over.
+	 * @param order The {@link SortOrder} to select and yield the entries in.
+	 * @throws IllegalArgumentException If the given {@link SparseLongArray} is {@literal null}, if the given count is
+	 *                                  negative or if the given {@link SortOrder} is {@literal null}.
+	 */
+	public SparseLongArrayTopIterator(SparseLongArray array, int count, SortOrder order) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("The given count is negative");
+		}
+		if (null == order) {
+			throw new IllegalArgumentException("The given order is null");
+		}
+		this.array = array;
+		int size = array.size();
+		int limit = Math.min(count, size);
+		ValueHeap heap = new ValueHeap(array, order, limit);
+		if (0 != limit) {
+			for (int i = 0; i < size; i++) {
+				if (heap.size() < limit) {
+					heap.add(i);
+				} else if (heap.compare(i, heap.peek()) < 0) {
+					heap.replaceTop(i);
+				}
+			}
+		}
+		this.indices = heap.drain();
+	}
+
+	public boolean hasNext() {
+		return index < indices.length;
+	}
+
+	public Entry<Integer, Long> next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		}
+		int index = indices[this.index++];
+		return new Entry<>(array.keyAt(index), array.valueAt(index));
+	}
+
+	private static final class ValueHeap extends IndexHeap {
+
+		private final SparseLongArray array;
+
+		private final boolean descending;
+
+		public ValueHeap(SparseLongArray array, SortOrder order, int capacity) {
+			super(capacity, true);
+			this.array = array;
+			this.descending = SortOrder.DESCENDING == order;
+		}
+
+		protected int compare(int left, int right) {
+			long leftValue = array.valueAt(left);
+			long rightValue = array.valueAt(right);
+			int comparison = leftValue < rightValue ? -1 : (leftValue == rightValue ? 0 : 1);
+			return descending ? -comparison : comparison;
+		}
+
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link StripedCounter} is a lock free counter, that spreads concurrent updates over multiple padded
+ * cells to reduce contention, similar to {@literal java.util.concurrent.atomic.LongAdder}, which isn't
+ * available on older API levels.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+final class StripedCounter {
+
+	private static final int PADDING = 8;
+
+	private static final int STRIPES = stripes();
+
+	private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+	private static int stripes() {
+		int processors = Runtime.getRuntime().availableProcessors();
+		int stripes = 1;
+		while (stripes < processors && stripes < 64) {
+			stripes <<= 1;
+		}
+		return stripes;
+	}
+
+	private static int cell() {
+		long id = Thread.currentThread().getId();
+		int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+		return ((hash >>> 16) & (STRIPES - 1)) * PADDING;
+	}
+
+	public void increment() {
+		cells.incrementAndGet(cell());
+	}
+
+	public void add(long value) {
+		cells.addAndGet(cell(), value);
+	}
+
+	public long sum() {
+		long sum = 0;
+		for (int i = 0; i < STRIPES; i++) {
+			sum += cells.get(i * PADDING);
+		}
+		return sum;
+	}
+
+}
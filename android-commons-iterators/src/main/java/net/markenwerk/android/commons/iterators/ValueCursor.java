@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+/**
+ * A {@link ValueCursor} is an allocation free cursor over some or all elements of an underlying collection,
+ * that gives access to the values of the selected elements, regardless of the type of their keys.
+ *
+ * <p>A {@link ValueCursor} is positioned before the first selected element upon creation and must be moved with
+ * {@link ValueCursor#moveToNext()} before the current element can be accessed.
+ *
+ * @param <Payload> The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public interface ValueCursor<Payload> {
+
+	/**
+	 * Moves this {@link ValueCursor} to the next selected element.
+	 *
+	 * @return Whether this {@link ValueCursor} has been moved to another element.
+	 */
+	boolean moveToNext();
+
+	/**
+	 * Returns the index of the current element in the underlying collection.
+	 *
+	 * @return The index of the current element.
+	 * @throws IllegalStateException If this {@link ValueCursor} isn't positioned on an element.
+	 */
+	int getIndex() throws IllegalStateException;
+
+	/**
+	 * Returns the value of the current element.
+	 *
+	 * @return The value of the current element.
+	 * @throws IllegalStateException If this {@link ValueCursor} isn't positioned on an element.
+	 */
+	Payload getValue() throws IllegalStateException;
+
+}
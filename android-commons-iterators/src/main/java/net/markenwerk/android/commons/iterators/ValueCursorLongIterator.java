@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link ValueCursorLongIterator} is a {@link LongIterator} that maps the values of the elements selected by a given
+ * {@link ValueCursor} with a given {@link ToLongMapper}, without boxing the mapped values.
+ *
+ * @param <From> The type of the values to be mapped.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+public final class ValueCursorLongIterator<From> implements LongIterator {
+
+	private final ValueCursor<? extends From> cursor;
+
+	private final ToLongMapper<? super From> mapper;
+
+	private boolean nextChecked;
+
+	private boolean hasNext;
+
+	/**
+	 * Creates a new {@link ValueCursorLongIterator}.
+	 *
+	 * @param cursor The {@link ValueCursor} to map the values of.
+	 * @param mapper The {@link ToLongMapper} to be used.
+	 * @throws IllegalArgumentException If the given {@link ValueCursor} or the given {@link ToLongMapper} is
+	 *                                  {@literal null}.
+	 */
+	public ValueCursorLongIterator(ValueCursor<? extends From> cursor, ToLongMapper<? super From> mapper) throws IllegalArgumentException {
+		if (null == cursor) {
+			throw new IllegalArgumentException("The given cursor is null");
+		}
+		if (null == mapper) {
+			throw new IllegalArgumentException("The given mapper is null");
+		}
+		this.cursor = cursor;
+		this.mapper = mapper;
+	}
+
+	public boolean hasNext() {
+		if (!nextChecked) {
+			hasNext = cursor.moveToNext();
+			nextChecked = true;
+		}
+		return hasNext;
+	}
+
+	public long nextLong() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		}
+		nextChecked = false;
+		return mapper.map(cursor.getValue());
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+/**
+ * {@link ValueKeySort} sorts parallel arrays of values and keys by value with a stable merge sort, such that
+ * keys that have been in ascending order stay in ascending order for equal values.
+ *
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.2.0
+ */
+final class ValueKeySort {
+
+	private ValueKeySort() {
+	}
+
+	public static void sort(int[] values, int[] keys, int size) {
+		int[] valueBuffer = new int[size];
+		int[] keyBuffer = new int[size];
+		for (int width = 1; width < size; width *= 2) {
+			for (int low = 0; low < size - width; low += 2 * width) {
+				int middle = low + width;
+				int high = Math.min(low + 2 * width, size);
+				if (values[middle - 1] > values[middle]) {
+					int left = low;
+					int right = middle;
+					int target = low;
+					while (left < middle && right < high) {
+						if (values[right] < values[left]) {
+							valueBuffer[target] = values[right];
+							keyBuffer[target++] = keys[right++];
+						} else {
+							valueBuffer[target] = values[left];
+							keyBuffer[target++] = keys[left++];
+						}
+					}
+					System.arraycopy(values, left, valueBuffer, target, middle - left);
+					System.arraycopy(keys, left, keyBuffer, target, middle - left);
+					target += middle - left;
+					System.arraycopy(values, right, valueBuffer, target, high - right);
+					System.arraycopy(keys, right, keyBuffer, target, high - right);
+					System.arraycopy(valueBuffer, low, values, low, high - low);
+					System.arraycopy(keyBuffer, low, keys, low, high - low);
+				}
+			}
+		}
+	}
+
+	public static void sort(long[] values, int[] keys, int size) {
+		long[] valueBuffer = new long[size];
+		int[] keyBuffer = new int[size];
+		for (int width = 1; width < size; width *= 2) {
+			for (int low = 0; low < size - width; low += 2 * width) {
+				int middle = low + width;
+				int high = Math.min(low + 2 * width, size);
+				if (values[middle - 1] > values[middle]) {
+					int left = low;
+					int right = middle;
+					int target = low;
+					while (left < middle && right < high) {
+						if (values[right] < values[left]) {
+							valueBuffer[target] = values[right];
+							keyBuffer[target++] = keys[right++];
+						} else {
+							valueBuffer[target] = values[left];
+							keyBuffer[target++] = keys[left++];
+						}
+					}
+					System.arraycopy(values, left, valueBuffer, target, middle - left);
+					System.arraycopy(keys, left, keyBuffer, target, middle - left);
+					target += middle - left;
+					System.arraycopy(values, right, valueBuffer, target, high - right);
+					System.arraycopy(keys, right, keyBuffer, target, high - right);
+					System.arraycopy(valueBuffer, low, values, low, high - low);
+					System.arraycopy(keyBuffer, low, keys, low, high - low);
+				}
+			}
+		}
+	}
+
+}
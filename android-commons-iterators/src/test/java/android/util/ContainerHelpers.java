@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package android.util;
+
+/**
+ * A pure Java stand-in for the hidden {@literal android.util.ContainerHelpers}, that is used by the
+ * stand-ins for the sparse arrays in JVM tests.
+ */
+final class ContainerHelpers {
+
+	private ContainerHelpers() {
+	}
+
+	static int binarySearch(int[] array, int size, int value) {
+		int low = 0;
+		int high = size - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int middleValue = array[middle];
+			if (middleValue < value) {
+				low = middle + 1;
+			} else if (middleValue > value) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return ~low;
+	}
+
+	static int binarySearch(long[] array, int size, long value) {
+		int low = 0;
+		int high = size - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			long middleValue = array[middle];
+			if (middleValue < value) {
+				low = middle + 1;
+			} else if (middleValue > value) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return ~low;
+	}
+
+	static int growSize(int currentSize) {
+		return currentSize <= 4 ? 8 : currentSize * 2;
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package android.util;
+
+/**
+ * A pure Java stand-in for {@literal android.util.Pair} in JVM tests.
+ *
+ * @param <F> The type of the first component.
+ * @param <S> The type of the second component.
+ */
+public class Pair<F, S> {
+
+	public final F first;
+
+	public final S second;
+
+	public Pair(F first, S second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	public static <A, B> Pair<A, B> create(A first, B second) {
+		return new Pair<A, B>(first, second);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (!(object instanceof Pair)) {
+			return false;
+		}
+		Pair<?, ?> pair = (Pair<?, ?>) object;
+		return equal(pair.first, first) && equal(pair.second, second);
+	}
+
+	private static boolean equal(Object left, Object right) {
+		return left == right || (null != left && left.equals(right));
+	}
+
+	@Override
+	public int hashCode() {
+		return (null == first ? 0 : first.hashCode()) ^ (null == second ? 0 : second.hashCode());
+	}
+
+	@Override
+	public String toString() {
+		return "Pair{" + first + " " + second + "}";
+	}
+
+}
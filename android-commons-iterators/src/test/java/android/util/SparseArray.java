@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package android.util;
+
+import java.util.Arrays;
+
+/**
+ * A pure Java stand-in for {@literal android.util.SparseArray} in JVM tests, that mirrors the behavior of the
+ * framework implementation, including the lazy deletion of elements, which are only removed from the
+ * underlying arrays by {@link SparseArray#gc()}, when an index based method is called.
+ *
+ * @param <E> The value type.
+ */
+public class SparseArray<E> implements Cloneable {
+
+	private static final Object DELETED = new Object();
+
+	private boolean garbage;
+
+	private int[] keys;
+
+	private Object[] values;
+
+	private int size;
+
+	public SparseArray() {
+		this(10);
+	}
+
+	public SparseArray(int initialCapacity) {
+		keys = new int[initialCapacity];
+		values = new Object[initialCapacity];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public SparseArray<E> clone() {
+		try {
+			SparseArray<E> clone = (SparseArray<E>) super.clone();
+			clone.keys = keys.clone();
+			clone.values = values.clone();
+			return clone;
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	public E get(int key) {
+		return get(key, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	public E get(int key, E valueIfKeyNotFound) {
+		int index = ContainerHelpers.binarySearch(keys, size, key);
+		if (index < 0 || values[index] == DELETED) {
+			return valueIfKeyNotFound;
+		}
+		return (E) values[index];
+	}
+
+	public void delete(int key) {
+		int index = ContainerHelpers.binarySearch(keys, size, key);
+		if (index >= 0 && values[index] != DELETED) {
+			values[index] = DELETED;
+			garbage = true;
+		}
+	}
+
+	public void remove(int key) {
+		delete(key);
+	}
+
+	public void removeAt(int index) {
+		if (values[index] != DELETED) {
+			values[index] = DELETED;
+			garbage = true;
+		}
+	}
+
+	/**
+	 * Removes all deleted elements from the underlying arrays. This is the pure Java equivalent of the
+	 * private {@literal gc()} method of the framework implementation and exposed for tests.
+	 */
+	public void gc() {
+		int target = 0;
+		for (int i = 0; i < size; i++) {
+			Object value = values[i];
+			if (value != DELETED) {
+				if (i != target) {
+					keys[target] = keys[i];
+					values[target] = value;
+					values[i] = null;
+				}
+				target++;
+			}
+		}
+		garbage = false;
+		size = target;
+	}
+
+	/**
+	 * Returns whether this SparseArray contains deleted elements, that haven't been removed by {@link SparseArray#gc()}.
+	 *
+	 * @return Whether this SparseArray contains deleted elements.
+	 */
+	public boolean hasGarbage() {
+		return garbage;
+	}
+
+	public void put(int key, E value) {
+		int index = ContainerHelpers.binarySearch(keys, size, key);
+		if (index >= 0) {
+			values[index] = value;
+		} else {
+			index = ~index;
+			if (index < size && values[index] == DELETED) {
+				keys[index] = key;
+				values[index] = value;
+				return;
+			}
+			if (garbage && size >= keys.length) {
+				gc();
+				index = ~ContainerHelpers.binarySearch(keys, size, key);
+			}
+			if (size == keys.length) {
+				int capacity = ContainerHelpers.growSize(size);
+				keys = Arrays.copyOf(keys, capacity);
+				values = Arrays.copyOf(values, capacity);
+			}
+			System.arraycopy(keys, index, keys, index + 1, size - index);
+			System.arraycopy(values, index, values, index + 1, size - index);
+			keys[index] = key;
+			values[index] = value;
+			size++;
+		}
+	}
+
+	public int size() {
+		if (garbage) {
+			gc();
+		}
+		return size;
+	}
+
+	public int keyAt(int index) {
+		if (garbage) {
+			gc();
+		}
+		return keys[index];
+	}
+
+	@SuppressWarnings("unchecked")
+	public E valueAt(int index) {
+		if (garbage) {
+			gc();
+		}
+		return (E) values[index];
+	}
+
+	public void setValueAt(int index, E value) {
+		if (garbage) {
+			gc();
+		}
+		values[index] = value;
+	}
+
+	public int indexOfKey(int key) {
+		if (garbage) {
+			gc();
+		}
+		return ContainerHelpers.binarySearch(keys, size, key);
+	}
+
+	public int indexOfValue(E value) {
+		if (garbage) {
+			gc();
+		}
+		for (int i = 0; i < size; i++) {
+			if (values[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public void clear() {
+		Arrays.fill(values, 0, size, null);
+		size = 0;
+		garbage = false;
+	}
+
+	public void append(int key, E value) {
+		if (size != 0 && key <= keys[size - 1]) {
+			put(key, value);
+			return;
+		}
+		if (garbage && size >= keys.length) {
+			gc();
+		}
+		if (size == keys.length) {
+			int capacity = ContainerHelpers.growSize(size);
+			keys = Arrays.copyOf(keys, capacity);
+			values = Arrays.copyOf(values, capacity);
+		}
+		keys[size] = key;
+		values[size] = value;
+		size++;
+	}
+
+	@Override
+	public String toString() {
+		if (size() <= 0) {
+			return "{}";
+		}
+		StringBuilder builder = new StringBuilder(size * 28);
+		builder.append('{');
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(keyAt(i)).append('=').append(valueAt(i));
+		}
+		return builder.append('}').toString();
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package android.util;
+
+import java.util.Arrays;
+
+/**
+ * A pure Java stand-in for {@literal android.util.SparseLongArray} in JVM tests, that mirrors the behavior of the
+ * framework implementation, which removes deleted elements immediately.
+ */
+public class SparseLongArray implements Cloneable {
+
+	private int[] keys;
+
+	private long[] values;
+
+	private int size;
+
+	public SparseLongArray() {
+		this(10);
+	}
+
+	public SparseLongArray(int initialCapacity) {
+		keys = new int[initialCapacity];
+		values = new long[initialCapacity];
+	}
+
+	@Override
+	public SparseLongArray clone() {
+		try {
+			SparseLongArray clone = (SparseLongArray) super.clone();
+			clone.keys = keys.clone();
+			clone.values = values.clone();
+			return clone;
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	public long get(int key) {
+		return get(key, 0L);
+	}
+
+	public long get(int key, long valueIfKeyNotFound) {
+		int index = ContainerHelpers.binarySearch(keys, size, key);
+		return index < 0 ? valueIfKeyNotFound : values[index];
+	}
+
+	public void delete(int key) {
+		int index = ContainerHelpers.binarySearch(keys, size, key);
+		if (index >= 0) {
+			removeAt(index);
+		}
+	}
+
+	public void removeAt(int index) {
+		System.arraycopy(keys, index + 1, keys, index, size - (index + 1));
+		System.arraycopy(values, index + 1, values, index, size - (index + 1));
+		size--;
+	}
+
+	public void put(int key, long value) {
+		int index = ContainerHelpers.binarySearch(keys, size, key);
+		if (index >= 0) {
+			values[index] = value;
+		} else {
+			index = ~index;
+			if (size == keys.length) {
+				int capacity = ContainerHelpers.growSize(size);
+				keys = Arrays.copyOf(keys, capacity);
+				values = Arrays.copyOf(values, capacity);
+			}
+			System.arraycopy(keys, index, keys, index + 1, size - index);
+			System.arraycopy(values, index, values, index + 1, size - index);
+			keys[index] = key;
+			values[index] = value;
+			size++;
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int keyAt(int index) {
+		return keys[index];
+	}
+
+	public long valueAt(int index) {
+		return values[index];
+	}
+
+	public void setValueAt(int index, long value) {
+		values[index] = value;
+	}
+
+	public int indexOfKey(int key) {
+		return ContainerHelpers.binarySearch(keys, size, key);
+	}
+
+	public int indexOfValue(long value) {
+		for (int i = 0; i < size; i++) {
+			if (values[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public void append(int key, long value) {
+		if (size != 0 && key <= keys[size - 1]) {
+			put(key, value);
+			return;
+		}
+		if (size == keys.length) {
+			int capacity = ContainerHelpers.growSize(size);
+			keys = Arrays.copyOf(keys, capacity);
+			values = Arrays.copyOf(values, capacity);
+		}
+		keys[size] = key;
+		values[size] = value;
+		size++;
+	}
+
+	@Override
+	public String toString() {
+		if (size() <= 0) {
+			return "{}";
+		}
+		StringBuilder builder = new StringBuilder(size * 28);
+		builder.append('{');
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(keyAt(i)).append('=').append(valueAt(i));
+		}
+		return builder.append('}').toString();
+	}
+
+}
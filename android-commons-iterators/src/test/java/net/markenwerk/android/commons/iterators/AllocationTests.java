@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+import android.util.Pair;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AllocationTests {
+
+	private static final int ITERATIONS = 10000;
+
+	private static final int SIZE = 1000;
+
+	private Object sink;
+
+	@Test
+	public void measure_allocatingIterator() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final Pair<Object, Object> pair = new Pair<>(new Object(), new Object());
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				PairIterator<Object> iterator = new PairIterator<>(pair);
+				sink = iterator;
+				while (iterator.hasNext()) {
+					iterator.next();
+				}
+			}
+
+		}, ITERATIONS);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes >= ITERATIONS * 16L);
+
+	}
+
+	@Test
+	public void iteratorPool_pairIterator() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final Pair<Object, Object> pair = new Pair<>(new Object(), new Object());
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				IteratorPool pool = IteratorPool.get();
+				PairIterator<Object> iterator = pool.obtain(pair);
+				sink = iterator;
+				while (iterator.hasNext()) {
+					iterator.next();
+				}
+				pool.recycle(iterator);
+			}
+
+		}, ITERATIONS);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes < ITERATIONS);
+
+	}
+
+	@Test
+	public void iteratorPool_sparseIntegerArrayIterator() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final SparseIntArray array = new SparseIntArray();
+		for (int i = 0; i < 10; i++) {
+			array.put(i * 1000, i * 1000);
+		}
+
+		long pooledBytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				IteratorPool pool = IteratorPool.get();
+				SparseIntegerArrayIterator iterator = pool.obtain(array);
+				while (iterator.hasNext()) {
+					sink = iterator.next();
+				}
+				pool.recycle(iterator);
+			}
+
+		}, ITERATIONS);
+
+		long newBytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				SparseIntegerArrayIterator iterator = new SparseIntegerArrayIterator(array);
+				sink = iterator;
+				while (iterator.hasNext()) {
+					sink = iterator.next();
+				}
+			}
+
+		}, ITERATIONS);
+
+		Assert.assertTrue("allocated " + pooledBytes + " vs. " + newBytes + " bytes", pooledBytes + ITERATIONS * 16L <= newBytes);
+
+	}
+
+	@Test
+	public void fullCursor() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final SparseArray<Object> array = new SparseArray<>();
+		for (int i = 0; i < SIZE; i++) {
+			array.put(i, new Object());
+		}
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				SparseArrayCursor<Object> cursor = new SparseArrayFullCursor<>(array);
+				while (cursor.moveToNext()) {
+					sink = cursor.getValue();
+				}
+			}
+
+		}, ITERATIONS / 10);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes < ITERATIONS / 10 * SIZE);
+
+	}
+
+	@Test
+	public void strideCursor() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final SparseArray<Object> array = new SparseArray<>();
+		for (int i = 0; i < SIZE; i++) {
+			array.put(i, new Object());
+		}
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				SparseArrayCursor<Object> cursor = new SparseArrayStrideCursor<>(array, 2);
+				while (cursor.moveToNext()) {
+					sink = cursor.getValue();
+				}
+			}
+
+		}, ITERATIONS / 10);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes < ITERATIONS / 10 * SIZE);
+
+	}
+
+	@Test
+	public void chainCursor() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final List<LongSparseArray<Object>> shards = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			LongSparseArray<Object> shard = new LongSparseArray<>();
+			for (int j = 0; j < SIZE / 10; j++) {
+				shard.put(i * SIZE + j, new Object());
+			}
+			shards.add(shard);
+		}
+		final LongSparseArrayChainCursor<Object> cursor = new LongSparseArrayChainCursor<>(shards);
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				cursor.seek(0);
+				do {
+					sink = cursor.getValue();
+				} while (cursor.moveToNext());
+			}
+
+		}, ITERATIONS / 10);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes < ITERATIONS / 10);
+
+	}
+
+	@Test
+	public void mergeIterator() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final SparseIntArray first = new SparseIntArray();
+		final SparseIntArray second = new SparseIntArray();
+		final SparseArray<Object> third = new SparseArray<>();
+		for (int i = 0; i < SIZE; i++) {
+			first.put(i * 2, i);
+			second.put(i * 3, i);
+			third.put(i * 5, new Object());
+		}
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				SparseArrayMergeIterator iterator = new SparseArrayMergeIterator(first, second, third);
+				while (iterator.hasNext()) {
+					sink = iterator.next().getValue(2);
+				}
+			}
+
+		}, ITERATIONS / 10);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes < ITERATIONS / 10 * SIZE);
+
+	}
+
+	@Test
+	public void bucketIterator() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final SparseIntArray array = new SparseIntArray();
+		for (int i = 0; i < SIZE; i++) {
+			array.put(i * 7, i);
+		}
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				SparseArrayBucketIterator iterator = new SparseArrayBucketIterator(array, 100);
+				while (iterator.hasNext()) {
+					sink = iterator.next();
+				}
+			}
+
+		}, ITERATIONS / 10);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes < ITERATIONS / 10 * SIZE);
+
+	}
+
+	@Test
+	public void pairSequenceIterator() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final List<Pair<Object, Object>> pairs = new ArrayList<>();
+		for (int i = 0; i < SIZE; i++) {
+			pairs.add(new Pair<>(new Object(), new Object()));
+		}
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				PairSequenceIterator<Object> iterator = new PairSequenceIterator<>(pairs);
+				while (iterator.hasNext()) {
+					sink = iterator.next();
+				}
+			}
+
+		}, ITERATIONS / 10);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes < ITERATIONS / 10 * SIZE);
+
+	}
+
+	@Test
+	public void pairSequenceIterator_array() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		@SuppressWarnings("unchecked")
+		final Pair<Object, Object>[] pairs = new Pair[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			pairs[i] = new Pair<>(new Object(), new Object());
+		}
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				PairSequenceIterator<Object> iterator = new PairSequenceIterator<>(pairs);
+				while (iterator.hasNext()) {
+					sink = iterator.next();
+				}
+			}
+
+		}, ITERATIONS / 10);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes < ITERATIONS / 10 * 128L);
+
+	}
+
+	@Test
+	public void keySet() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final SparseIntArray array = new SparseIntArray();
+		for (int i = 0; i < SIZE; i++) {
+			array.put(i * 7, i);
+		}
+		final IntSet keys = new SparseIntegerArrayKeySet(array);
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				IntIterator iterator = keys.intIterator();
+				long sum = 0;
+				while (iterator.hasNext()) {
+					sum += iterator.nextInt();
+				}
+				for (int i = 0; i < SIZE; i++) {
+					sum += keys.contains(i) ? 1 : 0;
+				}
+				sink = iterator;
+			}
+
+		}, ITERATIONS / 10);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes < ITERATIONS / 10 * SIZE);
+
+	}
+
+	@Test
+	public void reverseIndex() {
+
+		Assume.assumeTrue(Allocations.isSupported());
+		final Object[] values = new Object[SIZE];
+		SparseArray<Object> array = new SparseArray<>();
+		for (int i = 0; i < SIZE; i++) {
+			values[i] = new Object();
+			array.put(i, values[i]);
+		}
+		final SparseArrayReverseIndex<Object> index = new SparseArrayReverseIndex<>(array);
+
+		long bytes = Allocations.measure(new Runnable() {
+
+			@Override
+			public void run() {
+				for (Object value : values) {
+					index.indexOfValue(value);
+				}
+			}
+
+		}, ITERATIONS / 10);
+
+		Assert.assertTrue("allocated " + bytes + " bytes", bytes < ITERATIONS / 10);
+
+	}
+
+}
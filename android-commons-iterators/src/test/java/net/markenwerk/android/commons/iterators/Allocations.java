@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import java.lang.reflect.Method;
+
+/**
+ * Counts the bytes allocated by the current thread through {@literal com.sun.management.ThreadMXBean},
+ * which is accessed reflectively, because it isn't part of the Android API that unit tests are compiled
+ * against.
+ */
+final class Allocations {
+
+	private static final Object THREAD_BEAN;
+
+	private static final Method ALLOCATED_BYTES;
+
+	static {
+		Object threadBean = null;
+		Method allocatedBytes = null;
+		try {
+			Class<?> factory = Class.forName("java.lang.management.ManagementFactory");
+			Class<?> beanType = Class.forName("com.sun.management.ThreadMXBean");
+			threadBean = factory.getMethod("getThreadMXBean").invoke(null);
+			if (beanType.isInstance(threadBean)
+				&& (Boolean) beanType.getMethod("isThreadAllocatedMemorySupported").invoke(threadBean)) {
+				beanType.getMethod("setThreadAllocatedMemoryEnabled", boolean.class).invoke(threadBean, true);
+				allocatedBytes = beanType.getMethod("getThreadAllocatedBytes", long.class);
+			}
+		} catch (Exception e) {
+			allocatedBytes = null;
+		}
+		THREAD_BEAN = threadBean;
+		ALLOCATED_BYTES = allocatedBytes;
+		if (isSupported()) {
+			for (int i = 0; i < 100; i++) {
+				allocatedBytes();
+			}
+		}
+	}
+
+	private Allocations() {
+	}
+
+	static boolean isSupported() {
+		return null != ALLOCATED_BYTES;
+	}
+
+	static long allocatedBytes() {
+		try {
+			return (Long) ALLOCATED_BYTES.invoke(THREAD_BEAN, Thread.currentThread().getId());
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Runs the given {@link Runnable} the given number of times to warm it up and returns the number of bytes
+	 * allocated while running it the given number of times again.
+	 *
+	 * @param runnable   The {@link Runnable} to measure.
+	 * @param iterations The number of iterations.
+	 * @return The number of allocated bytes.
+	 */
+	static long measure(Runnable runnable, int iterations) {
+		for (int i = 0; i < iterations; i++) {
+			runnable.run();
+		}
+		long before = allocatedBytes();
+		for (int i = 0; i < iterations; i++) {
+			runnable.run();
+		}
+		return allocatedBytes() - before;
+	}
+
+}
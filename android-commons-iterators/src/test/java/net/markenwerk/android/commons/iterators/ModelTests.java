@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+
+import net.markenwerk.commons.datastructures.Entry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Checks iterators, cursors and views against a {@link TreeMap} on randomly generated arrays, including arrays
+ * that contain lazily deleted entries.
+ */
+public class ModelTests {
+
+	private static final int ROUNDS = 50;
+
+	private static SparseArray<Integer> sparseArray(Random random, TreeMap<Integer, Integer> model) {
+		SparseArray<Integer> array = new SparseArray<>();
+		int operations = random.nextInt(200);
+		for (int i = 0; i < operations; i++) {
+			int key = random.nextInt(200) - 100;
+			if (random.nextInt(3) != 0) {
+				array.put(key, random.nextInt(20));
+				model.put(key, array.get(key));
+			} else {
+				array.delete(key);
+				model.remove(key);
+			}
+		}
+		return array;
+	}
+
+	private static LongSparseArray<Integer> longSparseArray(Random random, TreeMap<Long, Integer> model) {
+		LongSparseArray<Integer> array = new LongSparseArray<>();
+		int operations = random.nextInt(200);
+		for (int i = 0; i < operations; i++) {
+			long key = (random.nextInt(200) - 100) * 100000000000L;
+			if (random.nextInt(3) != 0) {
+				array.put(key, random.nextInt(20));
+				model.put(key, array.get(key));
+			} else {
+				array.delete(key);
+				model.remove(key);
+			}
+		}
+		return array;
+	}
+
+	private static SparseIntArray sparseIntArray(Random random, TreeMap<Integer, Integer> model) {
+		SparseIntArray array = new SparseIntArray();
+		int operations = random.nextInt(200);
+		for (int i = 0; i < operations; i++) {
+			int key = random.nextInt(200) - 100;
+			if (random.nextInt(3) != 0) {
+				array.put(key, random.nextInt(20));
+				model.put(key, array.get(key));
+			} else {
+				array.delete(key);
+				model.remove(key);
+			}
+		}
+		return array;
+	}
+
+	@Test
+	public void sparseArrayIterator() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			TreeMap<Integer, Integer> model = new TreeMap<>();
+			SparseArray<Integer> array = sparseArray(new Random(round), model);
+
+			Iterator<Entry<Integer, Integer>> iterator = new SparseArrayIterator<>(array);
+
+			for (Map.Entry<Integer, Integer> entry : model.entrySet()) {
+				Entry<Integer, Integer> next = iterator.next();
+				Assert.assertEquals(entry.getKey(), next.getKey());
+				Assert.assertEquals(entry.getValue(), next.getValue());
+			}
+			Assert.assertFalse(iterator.hasNext());
+		}
+
+	}
+
+	@Test
+	public void strideCursor() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			TreeMap<Long, Integer> model = new TreeMap<>();
+			LongSparseArray<Integer> array = longSparseArray(random, model);
+			int stride = 1 + random.nextInt(5);
+			List<Long> keys = new ArrayList<>(model.keySet());
+
+			LongSparseArrayCursor<Integer> cursor = new LongSparseArrayStrideCursor<>(array, stride);
+
+			for (int index = 0; index < keys.size(); index += stride) {
+				Assert.assertTrue(cursor.moveToNext());
+				Assert.assertEquals(index, cursor.getIndex());
+				Assert.assertEquals((long) keys.get(index), cursor.getKey());
+				Assert.assertEquals(model.get(keys.get(index)), cursor.getValue());
+			}
+			Assert.assertFalse(cursor.moveToNext());
+		}
+
+	}
+
+	@Test
+	public void chainCursor_seek() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			TreeMap<Integer, Integer> model = new TreeMap<>();
+			List<SparseArray<Integer>> shards = new ArrayList<>();
+			int base = -1000;
+			for (int i = random.nextInt(5); i >= 0; i--) {
+				SparseArray<Integer> shard = new SparseArray<>();
+				for (int j = random.nextInt(10); j > 0; j--) {
+					base += 1 + random.nextInt(10);
+					shard.put(base, j);
+					model.put(base, j);
+				}
+				shards.add(shard);
+			}
+
+			SparseArrayChainCursor<Integer> cursor = new SparseArrayChainCursor<>(shards);
+
+			for (int key = -1000; key < base + 5; key += 3) {
+				Map.Entry<Integer, Integer> ceiling = model.ceilingEntry(key);
+				Assert.assertEquals(null != ceiling, cursor.seek(key));
+				if (null != ceiling) {
+					Assert.assertEquals((int) ceiling.getKey(), cursor.getKey());
+					Assert.assertEquals(ceiling.getValue(), cursor.getValue());
+					Map.Entry<Integer, Integer> higher = model.higherEntry(ceiling.getKey());
+					Assert.assertEquals(null != higher, cursor.moveToNext());
+					if (null != higher) {
+						Assert.assertEquals((int) higher.getKey(), cursor.getKey());
+					}
+				}
+			}
+		}
+
+	}
+
+	@Test
+	public void mergeIterator() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			TreeMap<Integer, Integer> firstModel = new TreeMap<>();
+			TreeMap<Integer, Integer> secondModel = new TreeMap<>();
+			SparseArray<Integer> first = sparseArray(random, firstModel);
+			SparseIntArray second = sparseIntArray(random, secondModel);
+			TreeSet<Integer> keys = new TreeSet<>(firstModel.keySet());
+			keys.addAll(secondModel.keySet());
+
+			SparseArrayMergeIterator iterator = new SparseArrayMergeIterator(first, second);
+
+			for (Integer key : keys) {
+				SparseArrayRow row = iterator.next();
+				Assert.assertEquals((long) key, row.getKey());
+				Assert.assertEquals(firstModel.get(key), row.getValue(0));
+				Assert.assertEquals(secondModel.containsKey(key), row.isPresent(1));
+				if (secondModel.containsKey(key)) {
+					Assert.assertEquals((int) secondModel.get(key), row.getIntValue(1));
+				}
+			}
+			Assert.assertFalse(iterator.hasNext());
+		}
+
+	}
+
+	@Test
+	public void sortedIterator() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			TreeMap<Integer, Integer> model = new TreeMap<>();
+			SparseIntArray array = sparseIntArray(new Random(round), model);
+			List<Integer> values = new ArrayList<>(model.values());
+			Collections.sort(values);
+
+			Iterator<Entry<Integer, Integer>> iterator = new SparseIntegerArraySortedIterator(array, SortOrder.ASCENDING);
+
+			for (Integer value : values) {
+				Entry<Integer, Integer> next = iterator.next();
+				Assert.assertEquals(value, next.getValue());
+				Assert.assertEquals(model.get(next.getKey()), next.getValue());
+			}
+			Assert.assertFalse(iterator.hasNext());
+		}
+
+	}
+
+	@Test
+	public void topIterator() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			TreeMap<Integer, Integer> model = new TreeMap<>();
+			SparseIntArray array = sparseIntArray(random, model);
+			List<Integer> values = new ArrayList<>(model.values());
+			Collections.sort(values, Collections.reverseOrder());
+			int count = random.nextInt(10);
+
+			Iterator<Entry<Integer, Integer>> iterator = new SparseIntegerArrayTopIterator(array, count, SortOrder.DESCENDING);
+
+			for (Integer value : values.subList(0, Math.min(count, values.size()))) {
+				Assert.assertEquals(value, iterator.next().getValue());
+			}
+			Assert.assertFalse(iterator.hasNext());
+		}
+
+	}
+
+	@Test
+	public void bucketIterator() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			TreeMap<Integer, Integer> model = new TreeMap<>();
+			SparseIntArray array = sparseIntArray(random, model);
+			int width = 1 + random.nextInt(30);
+
+			Iterator<SparseArrayBucket> iterator = new SparseArrayBucketIterator(array, width);
+
+			int index = 0;
+			while (index < model.size()) {
+				int key = model.keySet().toArray(new Integer[0])[index];
+				int lowerBound = (int) Math.floor((double) key / width) * width;
+				Map<Integer, Integer> bucketModel = model.subMap(lowerBound, lowerBound + width);
+				SparseArrayBucket bucket = iterator.next();
+				Assert.assertEquals(lowerBound, bucket.getLowerBound());
+				Assert.assertEquals(index, bucket.getStartIndex());
+				Assert.assertEquals(bucketModel.size(), bucket.getCount());
+				Assert.assertEquals((long) Collections.min(bucketModel.values()), bucket.getMinimum());
+				Assert.assertEquals((long) Collections.max(bucketModel.values()), bucket.getMaximum());
+				long sum = 0;
+				for (Integer value : bucketModel.values()) {
+					sum += value;
+				}
+				Assert.assertEquals(sum, bucket.getSum());
+				index += bucketModel.size();
+			}
+			Assert.assertFalse(iterator.hasNext());
+		}
+
+	}
+
+	@Test
+	public void copyRange() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			TreeMap<Integer, Integer> sourceModel = new TreeMap<>();
+			TreeMap<Integer, Integer> destinationModel = new TreeMap<>();
+			SparseArray<Integer> source = sparseArray(random, sourceModel);
+			SparseArray<Integer> destination = sparseArray(random, destinationModel);
+			int fromKey = random.nextInt(200) - 100;
+			int toKey = fromKey + random.nextInt(100);
+			Map<Integer, Integer> range = sourceModel.subMap(fromKey, true, toKey, true);
+			destinationModel.putAll(range);
+
+			int count = SparseArrayRanges.copyRange(source, fromKey, toKey, destination);
+
+			Assert.assertEquals(range.size(), count);
+			Assert.assertEquals(destinationModel.size(), destination.size());
+			int index = 0;
+			for (Map.Entry<Integer, Integer> entry : destinationModel.entrySet()) {
+				Assert.assertEquals((int) entry.getKey(), destination.keyAt(index));
+				Assert.assertEquals(entry.getValue(), destination.valueAt(index));
+				index++;
+			}
+		}
+
+	}
+
+	@Test
+	public void boundedObjectReverseIndex() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			Object[] values = new Object[1 + random.nextInt(20)];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = new Object();
+			}
+			SparseArray<Object> array = new SparseArray<>();
+			for (int i = random.nextInt(100); i > 0; i--) {
+				array.put(random.nextInt(200), values[random.nextInt(values.length)]);
+			}
+
+			SparseArrayReverseIndex<Object> index = new SparseArrayReverseIndex<>(array, 1 + random.nextInt(5));
+
+			for (int i = 0; i < 100; i++) {
+				int key = random.nextInt(200);
+				if (random.nextBoolean()) {
+					index.put(key, values[random.nextInt(values.length)]);
+				} else {
+					index.delete(key);
+				}
+				Object value = values[random.nextInt(values.length)];
+				Assert.assertEquals(array.indexOfValue(value), index.indexOfValue(value));
+			}
+		}
+
+	}
+
+	@Test
+	public void keySet() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			TreeMap<Integer, Integer> model = new TreeMap<>();
+			SparseArray<Integer> array = sparseArray(new Random(round), model);
+
+			IntSet keys = new SparseArrayKeySet(array);
+
+			Assert.assertEquals(model.size(), keys.size());
+			for (int key = -100; key < 100; key++) {
+				Assert.assertEquals(model.containsKey(key), keys.contains(key));
+			}
+			Assert.assertEquals(new ArrayList<>(model.keySet()), new ArrayList<>(keys));
+		}
+
+	}
+
+	@Test
+	public void reverseIndex() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			TreeMap<Integer, Integer> model = new TreeMap<>();
+			SparseIntArray array = sparseIntArray(random, model);
+
+			SparseIntegerArrayReverseIndex index = new SparseIntegerArrayReverseIndex(array);
+
+			for (int i = 0; i < 100; i++) {
+				int key = random.nextInt(200) - 100;
+				if (random.nextBoolean()) {
+					int value = random.nextInt(20);
+					index.put(key, value);
+					model.put(key, value);
+				} else {
+					index.delete(key);
+					model.remove(key);
+				}
+				int value = random.nextInt(20);
+				Assert.assertEquals(array.indexOfValue(value), index.indexOfValue(value));
+			}
+		}
+
+	}
+
+}
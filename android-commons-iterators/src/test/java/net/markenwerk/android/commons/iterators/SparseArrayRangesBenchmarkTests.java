@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.SparseIntArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks that the bulk operations of {@link SparseArrayRanges} scale linearly, by comparing the time it takes to
+ * copy into destinations of increasing sizes. Copying entry by entry with {@literal put()} scales quadratically in
+ * the worst case.
+ */
+public class SparseArrayRangesBenchmarkTests {
+
+	private static final int SIZE = 20000;
+
+	private static final int FACTOR = 8;
+
+	private static final int RUNS = 5;
+
+	@Test
+	public void copyRange_append() {
+
+		long small = fastest(SIZE, false);
+		long large = fastest(SIZE * FACTOR, false);
+
+		Assert.assertTrue(small + "ns vs. " + large + "ns", large < small * FACTOR * 4);
+
+	}
+
+	@Test
+	public void copyRange_merge() {
+
+		long small = fastest(SIZE, true);
+		long large = fastest(SIZE * FACTOR, true);
+
+		Assert.assertTrue(small + "ns vs. " + large + "ns", large < small * FACTOR * 4);
+
+	}
+
+	private static long fastest(int size, boolean interleaved) {
+		SparseIntArray source = new SparseIntArray(size);
+		SparseIntArray destination = new SparseIntArray(size);
+		for (int i = 0; i < size; i++) {
+			source.append(i * 2 + 1, i);
+			destination.append(interleaved ? i * 2 : i - size, -i);
+		}
+		long fastest = Long.MAX_VALUE;
+		for (int i = 0; i < RUNS; i++) {
+			SparseIntArray copy = destination.clone();
+			long start = System.nanoTime();
+			SparseArrayRanges.copyRange(source, Integer.MIN_VALUE, Integer.MAX_VALUE, copy);
+			fastest = Math.min(fastest, System.nanoTime() - start);
+			Assert.assertEquals(size * 2, copy.size());
+		}
+		return fastest;
+	}
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.android.commons.iterators;
+
+
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Checks the {@literal android.util} stand-ins against a {@link TreeMap}, so that a bug in a stand-in doesn't
+ * hide a bug in the library.
+ */
+public class StandInTests {
+
+	private static final int ROUNDS = 20;
+
+	private static final int OPERATIONS = 2000;
+
+	@Test
+	public void sparseArray() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			SparseArray<Integer> array = new SparseArray<>();
+			TreeMap<Integer, Integer> model = new TreeMap<>();
+			for (int i = 0; i < OPERATIONS; i++) {
+				int key = random.nextInt(100) - 50;
+				switch (random.nextInt(5)) {
+				case 0:
+				case 1:
+					array.put(key, i);
+					model.put(key, i);
+					break;
+				case 2:
+					array.delete(key);
+					model.remove(key);
+					break;
+				case 3:
+					if (model.isEmpty() || key > model.lastKey()) {
+						array.append(key, i);
+						model.put(key, i);
+					}
+					break;
+				default:
+					Assert.assertEquals(model.get(key), array.get(key));
+					break;
+				}
+				if (0 == i % 100) {
+					Assert.assertEquals(model.size(), array.size());
+					int index = 0;
+					for (Map.Entry<Integer, Integer> entry : model.entrySet()) {
+						Assert.assertEquals((int) entry.getKey(), array.keyAt(index));
+						Assert.assertEquals(entry.getValue(), array.valueAt(index));
+						Assert.assertEquals(index, array.indexOfKey(entry.getKey()));
+						index++;
+					}
+				}
+			}
+		}
+
+	}
+
+	@Test
+	public void longSparseArray() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			LongSparseArray<Integer> array = new LongSparseArray<>();
+			TreeMap<Long, Integer> model = new TreeMap<>();
+			for (int i = 0; i < OPERATIONS; i++) {
+				long key = (random.nextInt(100) - 50) * 1000000000L;
+				switch (random.nextInt(5)) {
+				case 0:
+				case 1:
+					array.put(key, i);
+					model.put(key, i);
+					break;
+				case 2:
+					array.delete(key);
+					model.remove(key);
+					break;
+				case 3:
+					if (!model.isEmpty()) {
+						Long modelKey = model.keySet().toArray(new Long[0])[random.nextInt(model.size())];
+						array.removeAt(array.indexOfKey(modelKey));
+						model.remove(modelKey);
+					}
+					break;
+				default:
+					Assert.assertEquals(model.get(key), array.get(key));
+					break;
+				}
+				if (0 == i % 100) {
+					Assert.assertEquals(model.size(), array.size());
+					int index = 0;
+					for (Map.Entry<Long, Integer> entry : model.entrySet()) {
+						Assert.assertEquals((long) entry.getKey(), array.keyAt(index));
+						Assert.assertEquals(entry.getValue(), array.valueAt(index));
+						index++;
+					}
+				}
+			}
+		}
+
+	}
+
+	@Test
+	public void sparseArray_garbage() {
+
+		SparseArray<Integer> array = new SparseArray<>();
+		array.put(1, 1);
+		array.put(2, 2);
+		array.put(3, 3);
+
+		array.delete(2);
+
+		Assert.assertTrue(array.hasGarbage());
+		Assert.assertEquals(2, array.size());
+		Assert.assertFalse(array.hasGarbage());
+		Assert.assertEquals(3, array.keyAt(1));
+
+	}
+
+	@Test
+	public void sparseIntArray() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			SparseIntArray array = new SparseIntArray();
+			TreeMap<Integer, Integer> model = new TreeMap<>();
+			for (int i = 0; i < OPERATIONS; i++) {
+				int key = random.nextInt(100) - 50;
+				if (random.nextBoolean()) {
+					array.put(key, i);
+					model.put(key, i);
+				} else {
+					array.delete(key);
+					model.remove(key);
+				}
+			}
+			Assert.assertEquals(model.size(), array.size());
+			int index = 0;
+			for (Map.Entry<Integer, Integer> entry : model.entrySet()) {
+				Assert.assertEquals((int) entry.getKey(), array.keyAt(index));
+				Assert.assertEquals((int) entry.getValue(), array.valueAt(index));
+				Assert.assertEquals(index, array.indexOfValue(entry.getValue()));
+				index++;
+			}
+		}
+
+	}
+
+	@Test
+	public void sparseLongArray() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			SparseLongArray array = new SparseLongArray();
+			TreeMap<Integer, Long> model = new TreeMap<>();
+			for (int i = 0; i < OPERATIONS; i++) {
+				int key = random.nextInt(100) - 50;
+				if (random.nextBoolean()) {
+					array.put(key, i * 1000000000L);
+					model.put(key, i * 1000000000L);
+				} else {
+					array.delete(key);
+					model.remove(key);
+				}
+			}
+			Assert.assertEquals(model.size(), array.size());
+			int index = 0;
+			for (Map.Entry<Integer, Long> entry : model.entrySet()) {
+				Assert.assertEquals((int) entry.getKey(), array.keyAt(index));
+				Assert.assertEquals((long) entry.getValue(), array.valueAt(index));
+				index++;
+			}
+		}
+
+	}
+
+	@Test
+	public void sparseBooleanArray() {
+
+		for (int round = 0; round < ROUNDS; round++) {
+			Random random = new Random(round);
+			SparseBooleanArray array = new SparseBooleanArray();
+			TreeMap<Integer, Boolean> model = new TreeMap<>();
+			for (int i = 0; i < OPERATIONS; i++) {
+				int key = random.nextInt(100) - 50;
+				if (random.nextBoolean()) {
+					boolean value = random.nextBoolean();
+					array.put(key, value);
+					model.put(key, value);
+				} else {
+					array.delete(key);
+					model.remove(key);
+				}
+			}
+			Assert.assertEquals(model.size(), array.size());
+			int index = 0;
+			for (Map.Entry<Integer, Boolean> entry : model.entrySet()) {
+				Assert.assertEquals((int) entry.getKey(), array.keyAt(index));
+				Assert.assertEquals(entry.getValue(), array.valueAt(index));
+				index++;
+			}
+		}
+
+	}
+
+}